@@ -0,0 +1,80 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks lookups in the prebuilt {@link ArrayIndex} and {@link IntArrayIndex} against a
+ * linear search of the same array, for an absent value.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayIndexBenchmark {
+
+    /**
+     * The indexes over the arrays of the {@link ObjectArrayState}.
+     */
+    @State(Scope.Benchmark)
+    public static class IndexState {
+
+	/**
+	 * The index over {@link ObjectArrayState#objects}.
+	 */
+	public ArrayIndex<Object> objectIndex;
+
+	/**
+	 * The index over {@link ArrayState#ints}.
+	 */
+	public IntArrayIndex intIndex;
+
+	/**
+	 * Builds the indexes over the arrays of the specified state.
+	 * 
+	 * @param arrays
+	 *            The state holding the indexed arrays.
+	 */
+	@Setup(Level.Trial)
+	public void setupIndexes(ObjectArrayState arrays) {
+	    objectIndex = new ArrayIndex<>(arrays.objects);
+	    intIndex = new IntArrayIndex(arrays.ints);
+	}
+
+    }
+
+    @Benchmark
+    public int indexOfObject(IndexState index, ObjectArrayState state) {
+	return index.objectIndex.indexOf(state.absent);
+    }
+
+    @Benchmark
+    public int linearIndexOfObject(ObjectArrayState state) {
+	return ArrayUtils.indexOf(state.absent, state.objects);
+    }
+
+    @Benchmark
+    public int indexOfInt(IndexState index) {
+	return index.intIndex.indexOf(-1);
+    }
+
+    @Benchmark
+    public int linearIndexOfInt(ArrayState state) {
+	return ArrayUtils.indexOf(-1, state.ints);
+    }
+
+}
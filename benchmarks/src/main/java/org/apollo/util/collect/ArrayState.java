@@ -0,0 +1,59 @@
+package org.apollo.util.collect;
+
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The primitive arrays shared by the {@link ArrayUtils} benchmarks, parameterized over the
+ * array length.
+ * 
+ * @author Chris Fletcher
+ */
+@State(Scope.Benchmark)
+public class ArrayState {
+
+    /**
+     * The seed of the element values, fixed so that runs are comparable.
+     */
+    static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * The length of each array.
+     */
+    @Param({ "0", "1", "2", "3", "6", "64", "4096", "1048576" })
+    public int length;
+
+    /**
+     * An array of random {@code int} values.
+     */
+    public int[] ints;
+
+    /**
+     * An array of random {@code long} values.
+     */
+    public long[] longs;
+
+    /**
+     * An array of random, non-negative {@code byte} values.
+     */
+    public byte[] bytes;
+
+    /**
+     * Creates the primitive arrays for the current length.
+     */
+    @Setup(Level.Trial)
+    public void setupPrimitives() {
+	SplittableRandom random = new SplittableRandom(SEED);
+	ints = random.ints(length, 0, Integer.MAX_VALUE).toArray();
+	longs = random.longs(length, 0, Long.MAX_VALUE).toArray();
+	bytes = new byte[length];
+	for (int i = 0; i < length; i++)
+	    bytes[i] = (byte) random.nextInt(Byte.MAX_VALUE + 1);
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code concat} methods of {@link ArrayUtils} against {@link Arrays#copyOf}
+ * followed by {@link System#arraycopy}, and against {@link Stream#concat}.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsConcatBenchmark {
+
+    /**
+     * The scratch buffers of a benchmark thread, reused by every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Scratch {
+
+	/**
+	 * The reference buffer, or {@code null} until first used.
+	 */
+	Object[] objects;
+
+    }
+
+    @Benchmark
+    public int concatInto(ObjectArrayState state, Scratch scratch) {
+	Object[][] parts = state.parts;
+	if (scratch.objects == null)
+	    scratch.objects = new Object[parts[0].length * 3];
+
+	return ArrayUtils.concatInto(scratch.objects, 0, parts[0], parts[1], parts[2]);
+    }
+
+    @Benchmark
+    public Object[] concat(ObjectArrayState state) {
+	Object[][] parts = state.parts;
+	return ArrayUtils.concat(parts[0], parts[1], parts[2]);
+    }
+
+    @Benchmark
+    public Object[] arraysCopyOf(ObjectArrayState state) {
+	Object[][] parts = state.parts;
+	int first = parts[0].length, second = parts[1].length;
+
+	Object[] result = Arrays.copyOf(parts[0], first + second + parts[2].length);
+	System.arraycopy(parts[1], 0, result, first, second);
+	System.arraycopy(parts[2], 0, result, first + second, parts[2].length);
+	return result;
+    }
+
+    @Benchmark
+    public Object[] streamConcat(ObjectArrayState state) {
+	Object[][] parts = state.parts;
+	return Stream.concat(Stream.concat(Stream.of(parts[0]), Stream.of(parts[1])), Stream.of(parts[2])).toArray();
+    }
+
+    @Benchmark
+    public int[] concatInt(ArrayState state) {
+	int[] ints = state.ints;
+	return ArrayUtils.concat(ints, ints, ints);
+    }
+
+    @Benchmark
+    public int[] arraysCopyOfInt(ArrayState state) {
+	int[] ints = state.ints;
+	int length = ints.length;
+
+	int[] result = Arrays.copyOf(ints, length * 3);
+	System.arraycopy(ints, 0, result, length, length);
+	System.arraycopy(ints, 0, result, length * 2, length);
+	return result;
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code convert} methods of {@link ArrayUtils} against their {@link Arrays#stream}
+ * equivalents.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsConvertBenchmark {
+
+    /**
+     * Converts an element to its hash code, which is cached by both benchmarked element types.
+     */
+    private static final Function<Object, Integer> HASH = Object::hashCode;
+
+    /**
+     * Converts an element to its string representation.
+     */
+    private static final Function<Object, String> STRING = String::valueOf;
+
+    /**
+     * Converts an element to its string representation. Both benchmarked element types are
+     * {@link Comparable}, which unlike {@link Object} is not a supertype of their arrays, so
+     * this function selects the multi-array {@code convert} methods without ambiguity.
+     */
+    private static final Function<Comparable<?>, String> COMPARABLE_STRING = String::valueOf;
+
+    @Benchmark
+    public int[] convertToInt(ObjectArrayState state) {
+	return ArrayUtils.convert(HASH, state.objects);
+    }
+
+    @Benchmark
+    public int[] convertToIntUnboxed(ObjectArrayState state) {
+	return ArrayUtils.convertToInt(Object::hashCode, state.objects);
+    }
+
+    @Benchmark
+    public int[] parallelConvertToInt(ObjectArrayState state) {
+	return ArrayUtils.parallelConvertToInt(Object::hashCode, state.objects);
+    }
+
+    @Benchmark
+    public int[] streamMapToInt(ObjectArrayState state) {
+	return Arrays.stream(state.objects).mapToInt(Object::hashCode).toArray();
+    }
+
+    @Benchmark
+    public String[] convertToType(ObjectArrayState state) {
+	return ArrayUtils.convert(String.class, STRING, state.objects);
+    }
+
+    @Benchmark
+    public String[] parallelConvertToType(ObjectArrayState state) {
+	return ArrayUtils.parallelConvert(String.class, STRING, state.objects);
+    }
+
+    @Benchmark
+    public String[] streamMap(ObjectArrayState state) {
+	return Arrays.stream(state.objects).map(STRING).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String[] parallelStreamMap(ObjectArrayState state) {
+	return Arrays.stream(state.objects).parallel().map(STRING).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String[] convertArrays(ObjectArrayState state) {
+	return ArrayUtils.convert(String.class, COMPARABLE_STRING, (Comparable<?>[][]) state.parts);
+    }
+
+    @Benchmark
+    public String[] parallelConvertArrays(ObjectArrayState state) {
+	return ArrayUtils.parallelConvert(String.class, COMPARABLE_STRING, (Comparable<?>[][]) state.parts);
+    }
+
+    @Benchmark
+    public String[] streamFlatMap(ObjectArrayState state) {
+	return Arrays.stream(state.parts).flatMap(Arrays::stream).map(STRING).toArray(String[]::new);
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code null} counting methods of {@link ArrayUtils}, sequential and parallel,
+ * against sequential and parallel streams. Every other element of the counted array is
+ * {@code null}.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsCountBenchmark {
+
+    @Benchmark
+    public int countNull(ObjectArrayState state) {
+	return ArrayUtils.countNull(state.sparse);
+    }
+
+    @Benchmark
+    public int countNonNull(ObjectArrayState state) {
+	return ArrayUtils.countNonNull(state.sparse);
+    }
+
+    @Benchmark
+    public long streamCountNull(ObjectArrayState state) {
+	return Arrays.stream(state.sparse).filter(Objects::isNull).count();
+    }
+
+    @Benchmark
+    public int parallelCountNull(ObjectArrayState state) {
+	return ArrayUtils.parallelCountNull(state.sparse);
+    }
+
+    @Benchmark
+    public int parallelCountNonNull(ObjectArrayState state) {
+	return ArrayUtils.parallelCountNonNull(state.sparse);
+    }
+
+    @Benchmark
+    public int parallelCount(ObjectArrayState state) {
+	return ArrayUtils.parallelCount(Objects::nonNull, state.sparse);
+    }
+
+    @Benchmark
+    public long parallelStreamCountNull(ObjectArrayState state) {
+	return Arrays.stream(state.sparse).parallel().filter(Objects::isNull).count();
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the single element methods of {@link ArrayUtils}, {@code random},
+ * {@code randomNonNull} and {@code replace}, against direct array access.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsElementBenchmark {
+
+    @Benchmark
+    public int randomInt(ArrayState state) {
+	return ArrayUtils.random(state.ints);
+    }
+
+    @Benchmark
+    public int threadLocalRandomInt(ArrayState state) {
+	int[] ints = state.ints;
+	return (ints.length == 0) ? 0 : ints[ThreadLocalRandom.current().nextInt(ints.length)];
+    }
+
+    @Benchmark
+    public Object randomObject(ObjectArrayState state) {
+	return ArrayUtils.random(state.objects);
+    }
+
+    @Benchmark
+    public Object threadLocalRandomObject(ObjectArrayState state) {
+	Object[] objects = state.objects;
+	return (objects.length == 0) ? null : objects[ThreadLocalRandom.current().nextInt(objects.length)];
+    }
+
+    @Benchmark
+    public Object randomNonNull(ObjectArrayState state) {
+	return ArrayUtils.randomNonNull(ThreadLocalRandom.current(), state.sparse);
+    }
+
+    @Benchmark
+    public Object randomNonNullBitmap(ObjectArrayState state) {
+	return ArrayUtils.randomNonNull(ThreadLocalRandom.current(), state.sparseOccupancy, state.sparse);
+    }
+
+    @Benchmark
+    public Object retryRandomNonNull(ObjectArrayState state) {
+	Object[] sparse = state.sparse;
+	if (sparse.length < 2)
+	    return null;
+
+	Object element;
+	do {
+	    element = sparse[ThreadLocalRandom.current().nextInt(sparse.length)];
+	} while (element == null);
+	return element;
+    }
+
+    @Benchmark
+    public Object replace(ObjectArrayState state) {
+	Object[] objects = state.objects;
+	return (objects.length == 0) ? null : ArrayUtils.replace(objects, objects.length - 1, state.last);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@code forEach} methods of {@link ArrayUtils} against {@link Arrays#stream} and
+ * {@link IntStream#range}.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsForEachBenchmark {
+
+    @Benchmark
+    public void forEach(ObjectArrayState state, Blackhole blackhole) {
+	ArrayUtils.forEach(blackhole::consume, state.objects);
+    }
+
+    @Benchmark
+    public void streamForEach(ObjectArrayState state, Blackhole blackhole) {
+	Arrays.stream(state.objects).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachIndexedBoxed(ObjectArrayState state, Blackhole blackhole) {
+	ArrayUtils.forEach((Integer index, Object element) -> {
+	    blackhole.consume(index);
+	    blackhole.consume(element);
+	}, state.objects);
+    }
+
+    @Benchmark
+    public void forEachIndexedPrimitive(ObjectArrayState state, Blackhole blackhole) {
+	ArrayUtils.forEachIndexed((int index, Object element) -> {
+	    blackhole.consume(index);
+	    blackhole.consume(element);
+	}, state.objects);
+    }
+
+    @Benchmark
+    public void forEachIndexedInt(ArrayState state, Blackhole blackhole) {
+	ArrayUtils.forEachIndexed(state.ints, (index, value) -> {
+	    blackhole.consume(index);
+	    blackhole.consume(value);
+	});
+    }
+
+    @Benchmark
+    public void rangeForEachIndexed(ObjectArrayState state, Blackhole blackhole) {
+	Object[] objects = state.objects;
+	IntStream.range(0, objects.length).forEach(index -> {
+	    blackhole.consume(index);
+	    blackhole.consume(objects[index]);
+	});
+    }
+
+    @Benchmark
+    public void parallelForEach(ObjectArrayState state, Blackhole blackhole) {
+	ArrayUtils.parallelForEach(blackhole::consume, state.objects);
+    }
+
+    @Benchmark
+    public void parallelStreamForEach(ObjectArrayState state, Blackhole blackhole) {
+	Arrays.stream(state.objects).parallel().forEach(blackhole::consume);
+    }
+
+}
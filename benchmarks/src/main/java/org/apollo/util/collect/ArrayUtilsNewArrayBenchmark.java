@@ -0,0 +1,88 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code newArray} and {@code parallelNewArray} methods of {@link ArrayUtils}
+ * against {@link Arrays#fill}.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsNewArrayBenchmark {
+
+    /**
+     * The default value of the {@code int} arrays.
+     */
+    private static final int DEFAULT_INT = -1;
+
+    /**
+     * The default value of the {@code long} arrays.
+     */
+    private static final long DEFAULT_LONG = -1;
+
+    @Benchmark
+    public Object[] newArrayObject(ObjectArrayState state) {
+	return ArrayUtils.newArray(state.length, state.absent);
+    }
+
+    @Benchmark
+    public Object[] newArrayGenerator(ObjectArrayState state) {
+	return ArrayUtils.newArray(state.length, state.absent, Object[]::new);
+    }
+
+    @Benchmark
+    public Object[] parallelNewArrayObject(ObjectArrayState state) {
+	return ArrayUtils.parallelNewArray(state.length, state.absent, Object[]::new);
+    }
+
+    @Benchmark
+    public Object[] arraysFillObject(ObjectArrayState state) {
+	Object[] array = new Object[state.length];
+	Arrays.fill(array, state.absent);
+	return array;
+    }
+
+    @Benchmark
+    public int[] newArrayInt(ArrayState state) {
+	return ArrayUtils.newArray(state.length, DEFAULT_INT);
+    }
+
+    @Benchmark
+    public int[] parallelNewArrayInt(ArrayState state) {
+	return ArrayUtils.parallelNewArray(state.length, DEFAULT_INT);
+    }
+
+    @Benchmark
+    public int[] arraysFillInt(ArrayState state) {
+	int[] array = new int[state.length];
+	Arrays.fill(array, DEFAULT_INT);
+	return array;
+    }
+
+    @Benchmark
+    public long[] newArrayLong(ArrayState state) {
+	return ArrayUtils.newArray(state.length, DEFAULT_LONG);
+    }
+
+    @Benchmark
+    public long[] arraysFillLong(ArrayState state) {
+	long[] array = new long[state.length];
+	Arrays.fill(array, DEFAULT_LONG);
+	return array;
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the primitive {@code indexOf} and {@code count} methods of {@link ArrayUtils}
+ * against a plain scalar loop, searching for a value that is absent, so every element is
+ * compared.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsPrimitiveSearchBenchmark {
+
+    /**
+     * A value that none of the arrays of the {@link ArrayState} contain.
+     */
+    private static final int ABSENT = -1;
+
+    @Benchmark
+    public int indexOfInt(ArrayState state) {
+	return ArrayUtils.indexOf(ABSENT, state.ints);
+    }
+
+    @Benchmark
+    public int loopIndexOfInt(ArrayState state) {
+	int[] ints = state.ints;
+	for (int i = 0; i < ints.length; i++) {
+	    if (ints[i] == ABSENT)
+		return i;
+	}
+	return -1;
+    }
+
+    @Benchmark
+    public int indexOfLong(ArrayState state) {
+	return ArrayUtils.indexOf((long) ABSENT, state.longs);
+    }
+
+    @Benchmark
+    public int indexOfByte(ArrayState state) {
+	return ArrayUtils.indexOf((byte) ABSENT, state.bytes);
+    }
+
+    @Benchmark
+    public int loopIndexOfByte(ArrayState state) {
+	byte[] bytes = state.bytes;
+	for (int i = 0; i < bytes.length; i++) {
+	    if (bytes[i] == ABSENT)
+		return i;
+	}
+	return -1;
+    }
+
+    @Benchmark
+    public int countInt(ArrayState state) {
+	return ArrayUtils.count(ABSENT, state.ints);
+    }
+
+    @Benchmark
+    public int loopCountInt(ArrayState state) {
+	int count = 0;
+	for (int element : state.ints) {
+	    if (element == ABSENT)
+		count++;
+	}
+	return count;
+    }
+
+    @Benchmark
+    public int countByte(ArrayState state) {
+	return ArrayUtils.count((byte) ABSENT, state.bytes);
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ArrayUtils#search(Object, Object...)} and the identity search of
+ * {@link ArrayUtils} against {@link Arrays#asList} and a {@link Stream}, both for a value at the
+ * end of the array and for an absent value.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsSearchBenchmark {
+
+    @Benchmark
+    public boolean searchLast(ObjectArrayState state) {
+	return ArrayUtils.search(state.last, state.objects);
+    }
+
+    @Benchmark
+    public boolean searchAbsent(ObjectArrayState state) {
+	return ArrayUtils.search(state.absent, state.objects);
+    }
+
+    @Benchmark
+    public int lastIndexOfLast(ObjectArrayState state) {
+	return ArrayUtils.lastIndexOf(state.last, state.objects);
+    }
+
+    @Benchmark
+    public boolean identityContainsAbsent(ObjectArrayState state) {
+	return ArrayUtils.identityContains(state.absent, state.objects);
+    }
+
+    @Benchmark
+    public boolean listContainsLast(ObjectArrayState state) {
+	return Arrays.asList(state.objects).contains(state.last);
+    }
+
+    @Benchmark
+    public boolean listContainsAbsent(ObjectArrayState state) {
+	return Arrays.asList(state.objects).contains(state.absent);
+    }
+
+    @Benchmark
+    public boolean streamAnyMatchLast(ObjectArrayState state) {
+	Object value = state.last;
+	return Stream.of(state.objects).anyMatch(value::equals);
+    }
+
+    @Benchmark
+    public boolean streamAnyMatchAbsent(ObjectArrayState state) {
+	Object value = state.absent;
+	return Stream.of(state.objects).anyMatch(value::equals);
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the sequential and parallel {@code shuffle} methods of {@link ArrayUtils}. The
+ * arrays are shuffled in place, which leaves them a permutation of the original elements.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsShuffleBenchmark {
+
+    @Benchmark
+    public int[] shuffleInt(ArrayState state) {
+	ArrayUtils.shuffle(ThreadLocalRandom.current(), state.ints);
+	return state.ints;
+    }
+
+    @Benchmark
+    public int[] parallelShuffleInt(ArrayState state) {
+	ArrayUtils.parallelShuffle(ForkJoinPool.commonPool(), ThreadLocalRandom.current(), state.ints);
+	return state.ints;
+    }
+
+    @Benchmark
+    public Object[] shuffleObject(ObjectArrayState state) {
+	ArrayUtils.shuffle(ThreadLocalRandom.current(), state.objects);
+	return state.objects;
+    }
+
+    @Benchmark
+    public Object[] parallelShuffleObject(ObjectArrayState state) {
+	ArrayUtils.parallelShuffle(ForkJoinPool.commonPool(), ThreadLocalRandom.current(), state.objects);
+	return state.objects;
+    }
+
+}
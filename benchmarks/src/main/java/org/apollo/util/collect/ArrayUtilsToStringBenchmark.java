@@ -0,0 +1,127 @@
+package org.apollo.util.collect;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code toString}, {@code appendTo} and {@code writeTo} methods of
+ * {@link ArrayUtils} against joining {@link Collectors} and against encoding the joined string.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayUtilsToStringBenchmark {
+
+    /**
+     * The delimiter used by each benchmark.
+     */
+    private static final String DELIMITER = ", ";
+
+    /**
+     * The builder of a benchmark thread, reused by every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Scratch {
+
+	/**
+	 * The reused builder.
+	 */
+	final StringBuilder builder = new StringBuilder();
+
+	/**
+	 * The reused direct buffer, which is flushed whenever it is full.
+	 */
+	final ByteBuffer bytes = ByteBuffer.allocateDirect(8192);
+
+    }
+
+    @Benchmark
+    public String toStringObject(ObjectArrayState state) {
+	return ArrayUtils.toString(DELIMITER, state.objects);
+    }
+
+    @Benchmark
+    public String streamJoiningObject(ObjectArrayState state) {
+	return Arrays.stream(state.objects).map(String::valueOf).collect(Collectors.joining(DELIMITER));
+    }
+
+    @Benchmark
+    public String toStringInt(ArrayState state) {
+	return ArrayUtils.toString(DELIMITER, state.ints);
+    }
+
+    @Benchmark
+    public StringBuilder appendToInt(ArrayState state, Scratch scratch) {
+	StringBuilder builder = scratch.builder;
+	builder.setLength(0);
+	return ArrayUtils.appendTo(builder, DELIMITER, state.ints);
+    }
+
+    @Benchmark
+    public String streamJoiningInt(ArrayState state) {
+	return Arrays.stream(state.ints).mapToObj(String::valueOf).collect(Collectors.joining(DELIMITER));
+    }
+
+    @Benchmark
+    public String toStringLong(ArrayState state) {
+	return ArrayUtils.toString(DELIMITER, state.longs);
+    }
+
+    @Benchmark
+    public StringBuilder appendToLong(ArrayState state, Scratch scratch) {
+	StringBuilder builder = scratch.builder;
+	builder.setLength(0);
+	return ArrayUtils.appendTo(builder, DELIMITER, state.longs);
+    }
+
+    @Benchmark
+    public String streamJoiningLong(ArrayState state) {
+	return Arrays.stream(state.longs).mapToObj(String::valueOf).collect(Collectors.joining(DELIMITER));
+    }
+
+    @Benchmark
+    public int writeToInt(ArrayState state, Scratch scratch) {
+	ByteBuffer buffer = scratch.bytes;
+	int[] ints = state.ints;
+
+	int index = 0;
+	do {
+	    buffer.clear();
+	    index = ArrayUtils.writeTo(buffer, DELIMITER, ints, index);
+	} while (index < ints.length);
+	return buffer.position();
+    }
+
+    @Benchmark
+    public int encodeToStringInt(ArrayState state, Scratch scratch) {
+	ByteBuffer buffer = scratch.bytes;
+	byte[] bytes = ArrayUtils.toString(DELIMITER, state.ints).getBytes(StandardCharsets.US_ASCII);
+
+	int offset = 0;
+	do {
+	    buffer.clear();
+	    int length = Math.min(buffer.remaining(), bytes.length - offset);
+	    buffer.put(bytes, offset, length);
+	    offset += length;
+	} while (offset < bytes.length);
+	return buffer.position();
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.apollo.util.collect;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmark jar. Every run publishes throughput, sampled latency
+ * percentiles and, through the {@link GCProfiler}, the allocation rate of each benchmark. The
+ * results are additionally written as JSON so that runs on different hosts can be compared.
+ * <p>
+ * Any of the regular JMH command line options may be specified, and take precedence over the
+ * defaults of this runner, e.g. {@code java -jar benchmarks.jar ArrayUtilsSearch -p length=64}.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The file that the results are written to, unless specified otherwise.
+     */
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    /**
+     * Runs the benchmarks selected by the specified command line arguments.
+     * 
+     * @param args
+     *            The JMH command line arguments.
+     * @throws CommandLineOptionException
+     *             if the arguments could not be parsed.
+     * @throws RunnerException
+     *             if a benchmark failed to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+	CommandLineOptions parent = new CommandLineOptions(args);
+	ChainedOptionsBuilder options = new OptionsBuilder().parent(parent).addProfiler(GCProfiler.class);
+
+	if (!parent.getResult().hasValue())
+	    options.result(DEFAULT_RESULT_FILE);
+	if (!parent.getResultFormat().hasValue())
+	    options.resultFormat(ResultFormatType.JSON);
+
+	new Runner(options.build()).run();
+    }
+
+    /**
+     * Default private constructor to prevent external instantiation.
+     */
+    private BenchmarkRunner() {
+    }
+
+}
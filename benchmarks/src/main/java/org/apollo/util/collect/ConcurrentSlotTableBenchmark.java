@@ -0,0 +1,139 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link ConcurrentSlotTable} against a {@link SlotTable} guarded by a lock, with
+ * several threads allocating and releasing slots at the same time, as the network threads do
+ * when players log in and out. Both hold the elements of {@link ObjectArrayState#objects},
+ * followed by a free slot for each thread. The {@code churn} group selects random elements from
+ * a mostly free table while the other threads allocate and release its slots.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(ConcurrentSlotTableBenchmark.THREADS)
+public class ConcurrentSlotTableBenchmark {
+
+    /**
+     * The amount of threads that access the tables concurrently.
+     */
+    static final int THREADS = 4;
+
+    /**
+     * The slot tables holding the elements of the {@link ObjectArrayState}.
+     */
+    @State(Scope.Benchmark)
+    public static class TableState {
+
+	/**
+	 * The concurrent slot table.
+	 */
+	public ConcurrentSlotTable<Object> concurrent;
+
+	/**
+	 * The slot table that is guarded by its own lock.
+	 */
+	public SlotTable<Object> locked;
+
+	/**
+	 * The concurrent slot table that is free apart from the slots being churned.
+	 */
+	public ConcurrentSlotTable<Object> sparse;
+
+	/**
+	 * Fills the slot tables with the elements of the specified state.
+	 * 
+	 * @param arrays
+	 *            The state holding the elements.
+	 */
+	@Setup(Level.Trial)
+	public void setupTables(ObjectArrayState arrays) {
+	    Object[] objects = arrays.objects;
+	    concurrent = new ConcurrentSlotTable<>(objects.length + THREADS);
+	    locked = new SlotTable<>(objects.length + THREADS);
+	    sparse = new ConcurrentSlotTable<>(objects.length + THREADS);
+	    for (Object element : objects) {
+		concurrent.allocate(element);
+		locked.allocate(element);
+	    }
+	}
+
+    }
+
+    @Benchmark
+    public int allocateRelease(TableState state, ObjectArrayState arrays) {
+	ConcurrentSlotTable<Object> table = state.concurrent;
+	int index = table.allocate(arrays.absent);
+	if (index >= 0)
+	    table.release(index);
+	return index;
+    }
+
+    @Benchmark
+    public int lockedAllocateRelease(TableState state, ObjectArrayState arrays) {
+	SlotTable<Object> table = state.locked;
+	int index;
+	synchronized (table) {
+	    index = table.allocate(arrays.absent);
+	}
+	if (index >= 0) {
+	    synchronized (table) {
+		table.release(index);
+	    }
+	}
+	return index;
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(THREADS - 1)
+    public int churnAllocateRelease(TableState state, ObjectArrayState arrays) {
+	ConcurrentSlotTable<Object> table = state.sparse;
+	int index = table.allocate(arrays.absent);
+	if (index >= 0)
+	    table.release(index);
+	return index;
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public Object churnRandom(TableState state) {
+	return state.sparse.random();
+    }
+
+    @Benchmark
+    public void forEach(TableState state, Blackhole blackhole) {
+	state.concurrent.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void lockedForEach(TableState state, Blackhole blackhole) {
+	SlotTable<Object> table = state.locked;
+	synchronized (table) {
+	    table.forEach(blackhole::consume);
+	}
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.apollo.util.collect;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * The reference arrays shared by the {@link ArrayUtils} benchmarks, parameterized over the
+ * element type in addition to the array length.
+ * 
+ * @author Chris Fletcher
+ */
+public class ObjectArrayState extends ArrayState {
+
+    /**
+     * The element type of the reference arrays.
+     */
+    @Param({ "Integer", "String" })
+    public String type;
+
+    /**
+     * An array of random elements of the benchmarked {@link #type}.
+     */
+    public Object[] objects;
+
+    /**
+     * A copy of {@link #objects} in which every other element is {@code null}.
+     */
+    public Object[] sparse;
+
+    /**
+     * The occupancy bitmap of {@link #sparse}, with a bit set for each non-{@code null} element.
+     */
+    public long[] sparseOccupancy;
+
+    /**
+     * Three arrays of the benchmarked {@link #type}, each of {@link #length} elements. The
+     * component type of this array is the array type of the elements.
+     */
+    public Object[][] parts;
+
+    /**
+     * A value equal, but not identical, to the last element of {@link #objects}. This is the
+     * worst case of a successful search.
+     */
+    public Object last;
+
+    /**
+     * A value of the benchmarked type that is not an element of {@link #objects}.
+     */
+    public Object absent;
+
+    /**
+     * Creates the reference arrays for the current length and element type.
+     */
+    @Setup(Level.Trial)
+    public void setupObjects() {
+	SplittableRandom random = new SplittableRandom(SEED);
+	int[] values = random.ints(length, 0, Integer.MAX_VALUE).toArray();
+
+	objects = elements(values);
+	last = (length == 0) ? element(-1) : element(values[length - 1]);
+	absent = element(-1);
+
+	sparse = objects.clone();
+	for (int i = 0; i < length; i += 2)
+	    sparse[i] = null;
+	sparseOccupancy = new long[(length + Long.SIZE - 1) / Long.SIZE];
+	for (int i = 1; i < length; i += 2)
+	    sparseOccupancy[i / Long.SIZE] |= 1L << i;
+
+	parts = (Object[][]) Array.newInstance(objects.getClass(), 3);
+	for (int i = 0; i < parts.length; i++)
+	    parts[i] = elements(random.ints(length, 0, Integer.MAX_VALUE).toArray());
+    }
+
+    /**
+     * Creates an array of elements of the benchmarked type, representing the specified values.
+     * 
+     * @param values
+     *            The values of the elements.
+     * @return The array.
+     */
+    private Object[] elements(int[] values) {
+	IntFunction<Object[]> generator = type.equals("String") ? String[]::new : Integer[]::new;
+	return Arrays.stream(values).mapToObj(this::element).toArray(generator);
+    }
+
+    /**
+     * Creates a new element of the benchmarked type, representing the specified value. Every
+     * call returns a distinct instance for values outside of the {@link Integer} cache.
+     * 
+     * @param value
+     *            The value.
+     * @return The element.
+     */
+    private Object element(int value) {
+	switch (type) {
+	case "Integer":
+	    return Integer.valueOf(value);
+	case "String":
+	    return String.valueOf(value);
+	default:
+	    throw new IllegalArgumentException("Unsupported element type: " + type);
+	}
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.apollo.util.collect;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link SlotTable} against a plain array in which free slots are {@code null}, both
+ * for allocating and releasing the lowest free slot, and for iterating over the occupied slots.
+ * Both hold the elements of {@link ObjectArrayState#objects}, followed by a single free slot,
+ * which is the worst case for finding a free slot by scanning the array.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SlotTableBenchmark {
+
+    /**
+     * The slot table and array holding the elements of the {@link ObjectArrayState}.
+     */
+    @State(Scope.Benchmark)
+    public static class TableState {
+
+	/**
+	 * The slot table.
+	 */
+	public SlotTable<Object> table;
+
+	/**
+	 * The array, with {@code null} as free slot.
+	 */
+	public Object[] array;
+
+	/**
+	 * Fills the slot table and array with the elements of the specified state.
+	 * 
+	 * @param arrays
+	 *            The state holding the elements.
+	 */
+	@Setup(Level.Trial)
+	public void setupTable(ObjectArrayState arrays) {
+	    Object[] objects = arrays.objects;
+	    table = new SlotTable<>(objects.length + 1);
+	    for (Object element : objects)
+		table.allocate(element);
+	    array = Arrays.copyOf(objects, objects.length + 1);
+	}
+
+    }
+
+    @Benchmark
+    public int allocateRelease(TableState state, ObjectArrayState arrays) {
+	int index = state.table.allocate(arrays.absent);
+	if (index >= 0)
+	    state.table.release(index);
+	return index;
+    }
+
+    @Benchmark
+    public int scanAllocateRelease(TableState state, ObjectArrayState arrays) {
+	Object[] array = state.array;
+	for (int i = 0; i < array.length; i++) {
+	    if (array[i] == null) {
+		array[i] = arrays.absent;
+		array[i] = null;
+		return i;
+	    }
+	}
+	return -1;
+    }
+
+    @Benchmark
+    public void forEach(TableState state, Blackhole blackhole) {
+	state.table.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void scanForEach(TableState state, Blackhole blackhole) {
+	for (Object element : state.array) {
+	    if (element != null)
+		blackhole.consume(element);
+	}
+    }
+
+}
@@ -0,0 +1,116 @@
+package org.apollo.util.collect;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks each {@link StrategySelector.Operation} under every strategy it implements, with
+ * the strategy chosen explicitly rather than selected, so that the {@link StrategyProfiler} can
+ * find the lengths at which one overtakes the other. The benchmarks are named
+ * {@code <operation><Strategy>}, e.g. {@code countParallel}.
+ * <p>
+ * The vectorized search benchmark only vectorizes when the
+ * {@value StrategySelector#FORCE_PROPERTY} system property forces
+ * {@link ExecutionStrategy#VECTORIZED}, as the profiler does.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    /**
+     * A value that none of the arrays of the {@link ArrayState} contain.
+     */
+    private static final byte ABSENT = -1;
+
+    /**
+     * The value that the filled {@code int} arrays hold.
+     */
+    private static final int ABSENT_INT = -1;
+
+    @Benchmark
+    public int[] convertSequential(ObjectArrayState state) {
+	return ArrayUtils.convertToInt(Object::hashCode, state.objects);
+    }
+
+    @Benchmark
+    public int[] convertParallel(ObjectArrayState state) {
+	return ArrayUtils.parallelConvertToInt(ForkJoinPool.commonPool(), 1, Object::hashCode, state.objects);
+    }
+
+    @Benchmark
+    public Object[] compactSequential(ObjectArrayState state) {
+	Object[] array = state.sparse.clone();
+	ArrayUtils.parallelCompactNulls(ForkJoinPool.commonPool(), Integer.MAX_VALUE, array);
+	return array;
+    }
+
+    @Benchmark
+    public Object[] compactParallel(ObjectArrayState state) {
+	Object[] array = state.sparse.clone();
+	ArrayUtils.parallelCompactNulls(ForkJoinPool.commonPool(), 1, array);
+	return array;
+    }
+
+    @Benchmark
+    public int countSequential(ObjectArrayState state) {
+	return ArrayUtils.parallelCountNull(ForkJoinPool.commonPool(), Integer.MAX_VALUE, state.sparse);
+    }
+
+    @Benchmark
+    public int countParallel(ObjectArrayState state) {
+	return ArrayUtils.parallelCountNull(ForkJoinPool.commonPool(), 1, state.sparse);
+    }
+
+    @Benchmark
+    public int searchSequential(ArrayState state) {
+	byte[] bytes = state.bytes;
+	for (int i = 0; i < bytes.length; i++) {
+	    if (bytes[i] == ABSENT)
+		return i;
+	}
+	return -1;
+    }
+
+    @Benchmark
+    public int searchVectorized(ArrayState state) {
+	return ArrayUtils.indexOf(ABSENT, state.bytes);
+    }
+
+    @Benchmark
+    public int[] fillSequential(ArrayState state) {
+	return ArrayUtils.parallelNewArray(ForkJoinPool.commonPool(), Integer.MAX_VALUE, state.length, ABSENT_INT);
+    }
+
+    @Benchmark
+    public int[] fillParallel(ArrayState state) {
+	return ArrayUtils.parallelNewArray(ForkJoinPool.commonPool(), 1, state.length, ABSENT_INT);
+    }
+
+    @Benchmark
+    public int[] shuffleSequential(ArrayState state) {
+	ArrayUtils.parallelShuffle(ForkJoinPool.commonPool(), Integer.MAX_VALUE, new SplittableRandom(ArrayState.SEED), state.ints);
+	return state.ints;
+    }
+
+    @Benchmark
+    public int[] shuffleParallel(ArrayState state) {
+	ArrayUtils.parallelShuffle(ForkJoinPool.commonPool(), 1, new SplittableRandom(ArrayState.SEED), state.ints);
+	return state.ints;
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.apollo.util.collect;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apollo.util.collect.StrategySelector.Operation;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Learns the thresholds of the {@link StrategySelector} on the running host. Every operation of
+ * the {@link StrategyBenchmark} is measured under each of its strategies over a range of array
+ * lengths, and its threshold becomes the smallest measured length from which on the faster
+ * strategy stays ahead. The resulting profile can be passed to applications through the
+ * {@value StrategySelector#PROFILE_PROPERTY} system property, e.g.
+ * {@code java -cp benchmarks.jar org.apollo.util.collect.StrategyProfiler strategy.properties}.
+ * <p>
+ * {@link Operation#FOR_EACH} has no benchmark of its own, and shares the threshold of
+ * {@link Operation#CONVERT}, whose per-element work is alike.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+public final class StrategyProfiler {
+
+    /**
+     * The file that the profile is written to, unless specified otherwise.
+     */
+    private static final String DEFAULT_PROFILE_FILE = "strategy.properties";
+
+    /**
+     * The array lengths that are measured.
+     */
+    private static final String[] LENGTHS = { "4", "16", "64", "256", "1024", "4096", "16384", "65536", "262144",
+	    "1048576" };
+
+    /**
+     * Measures the thresholds and writes them as a profile.
+     * 
+     * @param args
+     *            The path of the profile, optionally.
+     * @throws RunnerException
+     *             if a benchmark failed to run.
+     * @throws IOException
+     *             if the profile could not be written.
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+	Path path = Paths.get((args.length > 0) ? args[0] : DEFAULT_PROFILE_FILE);
+	Options options = new OptionsBuilder().include(StrategyBenchmark.class.getName()).param("length", LENGTHS)
+		.param("type", "Integer").jvmArgsAppend("-D" + StrategySelector.FORCE_PROPERTY + "=VECTORIZED").build();
+	Collection<RunResult> results = new Runner(options).run();
+
+	Map<String, TreeMap<Integer, Double>> scores = new HashMap<>();
+	for (RunResult result : results) {
+	    String benchmark = result.getParams().getBenchmark();
+	    String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+	    int length = Integer.parseInt(result.getParams().getParam("length"));
+	    scores.computeIfAbsent(method, key -> new TreeMap<>()).put(length, result.getPrimaryResult().getScore());
+	}
+
+	int convert = crossover(scores, "convertSequential", "convertParallel");
+	StrategySelector selector = StrategySelector.defaults()
+		.withThresholds(Operation.FOR_EACH, Integer.MAX_VALUE, convert)
+		.withThresholds(Operation.CONVERT, Integer.MAX_VALUE, convert)
+		.withThresholds(Operation.COMPACT, Integer.MAX_VALUE, crossover(scores, "compactSequential", "compactParallel"))
+		.withThresholds(Operation.COUNT, Integer.MAX_VALUE, crossover(scores, "countSequential", "countParallel"))
+		.withThresholds(Operation.FILL, Integer.MAX_VALUE, crossover(scores, "fillSequential", "fillParallel"))
+		.withThresholds(Operation.SEARCH, crossover(scores, "searchSequential", "searchVectorized"), Integer.MAX_VALUE)
+		.withThresholds(Operation.SHUFFLE, Integer.MAX_VALUE, crossover(scores, "shuffleSequential", "shuffleParallel"));
+	selector.store(path);
+	System.out.println("Wrote " + selector + " to " + path.toAbsolutePath() + ".");
+    }
+
+    /**
+     * Returns the smallest measured length from which on the specified candidate benchmark is
+     * faster than the specified baseline benchmark at every measured length.
+     * 
+     * @param scores
+     *            The average time of each benchmark, per length.
+     * @param baseline
+     *            The name of the baseline benchmark.
+     * @param candidate
+     *            The name of the candidate benchmark.
+     * @return The threshold, or {@link Integer#MAX_VALUE} if the candidate is not faster at the
+     *         largest length.
+     */
+    private static int crossover(Map<String, TreeMap<Integer, Double>> scores, String baseline, String candidate) {
+	TreeMap<Integer, Double> baselineScores = scores.get(baseline), candidateScores = scores.get(candidate);
+	int threshold = Integer.MAX_VALUE;
+	for (Map.Entry<Integer, Double> entry : candidateScores.descendingMap().entrySet()) {
+	    if (entry.getValue() >= baselineScores.get(entry.getKey()))
+		break;
+	    threshold = entry.getKey();
+	}
+	return threshold;
+    }
+
+    /**
+     * Default private constructor to prevent external instantiation.
+     */
+    private StrategyProfiler() {
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.apollo.util.collect;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link IntWeightedSampler} against a linear scan over the cumulative weights, the
+ * usual implementation of a weighted table.
+ * 
+ * @author Chris Fletcher
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WeightedSamplerBenchmark {
+
+    /**
+     * The amount of weighted values.
+     */
+    @Param({ "2", "6", "64", "4096" })
+    public int length;
+
+    /**
+     * The weighted values.
+     */
+    private int[] values;
+
+    /**
+     * The cumulative weights of the values.
+     */
+    private int[] cumulative;
+
+    /**
+     * The sampler over the values.
+     */
+    private IntWeightedSampler sampler;
+
+    /**
+     * Creates the values and weights for the current length.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+	SplittableRandom random = new SplittableRandom(ArrayState.SEED);
+	values = random.ints(length).toArray();
+	int[] weights = random.ints(length, 1, 1000).toArray();
+
+	cumulative = new int[length];
+	for (int i = 0, sum = 0; i < length; i++)
+	    cumulative[i] = sum += weights[i];
+
+	sampler = new IntWeightedSampler(values, weights);
+    }
+
+    @Benchmark
+    public int aliasSample() {
+	return sampler.sample(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public int cumulativeScan() {
+	int roll = ThreadLocalRandom.current().nextInt(cumulative[length - 1]);
+	for (int i = 0; i < length; i++) {
+	    if (roll < cumulative[i])
+		return values[i];
+	}
+	throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.apollo.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A class that provides the default source of randomness for the utilities that select
+ * elements at random. By default, this is the {@link ThreadLocalRandom} of the calling thread,
+ * which, unlike {@link Math#random()}, involves no contention between threads.
+ * <p>
+ * For the purpose of reproducing a recorded tick, a thread can be switched to a deterministic
+ * mode by {@link #seed(long) seeding} it, after which the same sequence of calls on that thread
+ * yields the same sequence of random values. Other threads are unaffected.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+public final class RandomSources {
+
+    /**
+     * The deterministic source of each seeded thread.
+     */
+    private static final ThreadLocal<RandomGenerator> SEEDED = new ThreadLocal<>();
+
+    /**
+     * The amount of threads that are currently seeded. While no thread is, {@link #current()}
+     * skips the thread-local lookup altogether.
+     */
+    private static volatile int seededThreads;
+
+    /**
+     * Returns the source of randomness of the calling thread: its deterministic source if it
+     * has been {@link #seed(long) seeded}, or its {@link ThreadLocalRandom} otherwise. The
+     * returned source must not be shared with other threads.
+     * 
+     * @return The source of randomness.
+     */
+    public static RandomGenerator current() {
+	if (seededThreads != 0) {
+	    RandomGenerator seeded = SEEDED.get();
+	    if (seeded != null)
+		return seeded;
+	}
+	return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Switches the calling thread to a deterministic source of randomness, with the specified
+     * seed. Seeding a thread that is already seeded restarts its sequence.
+     * 
+     * @param seed
+     *            The seed.
+     */
+    public static void seed(long seed) {
+	if (SEEDED.get() == null)
+	    increment(1);
+	SEEDED.set(new SplittableRandom(seed));
+    }
+
+    /**
+     * Switches the calling thread back to its {@link ThreadLocalRandom}. This has no effect if
+     * the thread is not seeded.
+     */
+    public static void clear() {
+	if (SEEDED.get() != null) {
+	    SEEDED.remove();
+	    increment(-1);
+	}
+    }
+
+    /**
+     * Adjusts the amount of seeded threads.
+     * 
+     * @param delta
+     *            The adjustment.
+     */
+    private static synchronized void increment(int delta) {
+	seededThreads += delta;
+    }
+
+    /**
+     * Default private constructor to prevent external instantiation.
+     */
+    private RandomSources() {
+    }
+
+}
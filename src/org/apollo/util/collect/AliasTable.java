@@ -0,0 +1,121 @@
+package org.apollo.util.collect;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * An alias table over a discrete probability distribution, built using Vose's alias method.
+ * Each column of the table holds the probability of selecting its own index, and the alias
+ * index that is selected otherwise, so that drawing an index takes constant time regardless of
+ * the amount of indices.
+ * <p>
+ * Instances of this class are immutable, and thus safe to share between threads.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+final class AliasTable {
+
+    /**
+     * The probability of each column selecting its own index.
+     */
+    private final double[] probabilities;
+
+    /**
+     * The index selected by each column when it does not select its own index.
+     */
+    private final int[] aliases;
+
+    /**
+     * Creates the alias table for the specified weights.
+     * 
+     * @param weights
+     *            The relative weight of each index.
+     * @throws IllegalArgumentException
+     *             if there are no weights, if any of the weights is negative or not finite, or
+     *             if the weights do not sum to a positive, finite value.
+     */
+    AliasTable(double[] weights) {
+	int length = weights.length;
+	if (length == 0)
+	    throw new IllegalArgumentException("Weights may not be empty.");
+
+	double sum = 0;
+	for (double weight : weights) {
+	    if (!(weight >= 0) || weight == Double.POSITIVE_INFINITY)
+		throw new IllegalArgumentException("Weights must be finite and non-negative, found " + weight + ".");
+	    sum += weight;
+	}
+	if (!(sum > 0) || sum == Double.POSITIVE_INFINITY)
+	    throw new IllegalArgumentException("Weights must sum to a positive, finite value, was " + sum + ".");
+
+	probabilities = new double[length];
+	aliases = new int[length];
+
+	double[] scaled = new double[length];
+	int[] small = new int[length], large = new int[length];
+	int smallCount = 0, largeCount = 0;
+	for (int i = 0; i < length; i++) {
+	    scaled[i] = weights[i] * length / sum;
+	    if (scaled[i] < 1)
+		small[smallCount++] = i;
+	    else
+		large[largeCount++] = i;
+	}
+
+	while (smallCount > 0 && largeCount > 0) {
+	    int less = small[--smallCount], more = large[--largeCount];
+	    probabilities[less] = scaled[less];
+	    aliases[less] = more;
+
+	    scaled[more] = (scaled[more] + scaled[less]) - 1;
+	    if (scaled[more] < 1)
+		small[smallCount++] = more;
+	    else
+		large[largeCount++] = more;
+	}
+
+	/* Whatever remains is, barring rounding errors, exactly 1. */
+	while (largeCount > 0)
+	    probabilities[large[--largeCount]] = 1;
+	while (smallCount > 0)
+	    probabilities[small[--smallCount]] = 1;
+    }
+
+    /**
+     * Converts the specified integer weights to floating-point weights.
+     * 
+     * @param weights
+     *            The integer weights.
+     * @return The floating-point weights.
+     */
+    static double[] toDoubles(int[] weights) {
+	int length = weights.length;
+	double[] result = new double[length];
+	for (int i = 0; i < length; i++)
+	    result[i] = weights[i];
+
+	return result;
+    }
+
+    /**
+     * Draws an index from this table.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @return The index.
+     */
+    int sample(RandomGenerator random) {
+	int column = random.nextInt(probabilities.length);
+	return (random.nextDouble() < probabilities[column]) ? column : aliases[column];
+    }
+
+    /**
+     * Returns the amount of indices in this table.
+     * 
+     * @return The amount of indices.
+     */
+    int size() {
+	return probabilities.length;
+    }
+
+}
@@ -0,0 +1,471 @@
+package org.apollo.util.collect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The array lengths, per component type, at which {@link System#arraycopy(Object, int, Object, int, int)}
+ * becomes cheaper than an element-by-element copy. The crossover differs per element type, JVM
+ * and CPU, so rather than hard-coding it, the thresholds in use are determined once when this
+ * class is initialized:
+ * <ul>
+ * <li>If the {@value #PROFILE_PROPERTY} system property is set, the thresholds are loaded from
+ * the profile at that path, as previously written by {@link #store(Path)}.</li>
+ * <li>Otherwise, if the {@value #CALIBRATE_PROPERTY} system property is {@code true}, the
+ * thresholds are {@link #calibrate() measured} on the running JVM.</li>
+ * <li>Otherwise, the {@link #DEFAULT_THRESHOLD default threshold} is used for every type.</li>
+ * </ul>
+ * Thresholds are measured for reference, {@code int}, {@code long} and {@code byte} arrays. The
+ * remaining primitive types share the threshold of the measured type of the same width, or of
+ * the next wider one: {@code boolean} that of {@code byte}, {@code short}, {@code char} and
+ * {@code float} that of {@code int}, and {@code double} that of {@code long}.
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+public final class ArrayCopyThresholds {
+
+    /**
+     * The system property holding the path of the profile to load the thresholds from.
+     */
+    public static final String PROFILE_PROPERTY = "org.apollo.util.collect.copyProfile";
+
+    /**
+     * The system property that, when {@code true}, causes the thresholds to be calibrated when
+     * this class is initialized.
+     */
+    public static final String CALIBRATE_PROPERTY = "org.apollo.util.collect.calibrateCopy";
+
+    /**
+     * The threshold used when no profile is loaded and no calibration is requested. This is
+     * the point at which, historically, the cost of a JNI call exceeded the expense of an
+     * element-by-element copy.
+     */
+    public static final int DEFAULT_THRESHOLD = 6;
+
+    /**
+     * The largest array length that is measured during calibration. If the element-by-element
+     * copy is still cheaper at this length, the threshold is one beyond it.
+     */
+    private static final int MAX_CALIBRATED_LENGTH = 32;
+
+    /**
+     * The amount of copies that are timed as a single sample.
+     */
+    private static final int SAMPLE_COPIES = 2_000;
+
+    /**
+     * The amount of samples taken for each length and copy method. The fastest sample is used,
+     * as it is the least affected by interference.
+     */
+    private static final int SAMPLES = 7;
+
+    /**
+     * The amount of unrecorded passes over all lengths, so that both copy methods are compiled
+     * before they are measured.
+     */
+    private static final int WARMUP_PASSES = 10;
+
+    /**
+     * The thresholds in use.
+     */
+    private static final ArrayCopyThresholds CURRENT = initialize();
+
+    /**
+     * The threshold for reference arrays.
+     */
+    private final int reference;
+
+    /**
+     * The threshold for {@code int} arrays.
+     */
+    private final int ints;
+
+    /**
+     * The threshold for {@code long} arrays.
+     */
+    private final int longs;
+
+    /**
+     * The threshold for {@code byte} arrays.
+     */
+    private final int bytes;
+
+    /**
+     * Creates the array copy thresholds.
+     * 
+     * @param reference
+     *            The threshold for reference arrays.
+     * @param ints
+     *            The threshold for {@code int} arrays.
+     * @param longs
+     *            The threshold for {@code long} arrays.
+     * @param bytes
+     *            The threshold for {@code byte} arrays.
+     * @throws IllegalArgumentException
+     *             if any of the thresholds is negative.
+     */
+    public ArrayCopyThresholds(int reference, int ints, int longs, int bytes) {
+	if (reference < 0 || ints < 0 || longs < 0 || bytes < 0)
+	    throw new IllegalArgumentException("Thresholds may not be negative.");
+
+	this.reference = reference;
+	this.ints = ints;
+	this.longs = longs;
+	this.bytes = bytes;
+    }
+
+    /**
+     * Returns the thresholds in use, as determined when this class was initialized.
+     * 
+     * @return The current thresholds.
+     */
+    public static ArrayCopyThresholds current() {
+	return CURRENT;
+    }
+
+    /**
+     * Measures the thresholds on the running JVM. This takes in the order of a few hundred
+     * milliseconds, and is subject to interference from other threads.
+     * 
+     * @return The measured thresholds.
+     */
+    public static ArrayCopyThresholds calibrate() {
+	int reference = new ReferenceProbe().calibrate();
+	int ints = new IntProbe().calibrate();
+	int longs = new LongProbe().calibrate();
+	int bytes = new ByteProbe().calibrate();
+	return new ArrayCopyThresholds(reference, ints, longs, bytes);
+    }
+
+    /**
+     * Loads the thresholds from the profile at the specified path.
+     * 
+     * @param path
+     *            The path of the profile.
+     * @return The loaded thresholds.
+     * @throws IOException
+     *             if the profile could not be read.
+     * @throws IllegalArgumentException
+     *             if the profile is missing a threshold, or contains a malformed one.
+     */
+    public static ArrayCopyThresholds load(Path path) throws IOException {
+	Properties properties = new Properties();
+	try (InputStream in = Files.newInputStream(path)) {
+	    properties.load(in);
+	}
+
+	return new ArrayCopyThresholds(parse(properties, "reference"), parse(properties, "int"), parse(properties, "long"),
+		parse(properties, "byte"));
+    }
+
+    /**
+     * Parses the threshold with the specified key from the specified properties.
+     * 
+     * @param properties
+     *            The properties of the profile.
+     * @param key
+     *            The key of the threshold.
+     * @return The threshold.
+     * @throws IllegalArgumentException
+     *             if the threshold is missing or malformed.
+     */
+    private static int parse(Properties properties, String key) {
+	String value = properties.getProperty(key);
+	if (value == null)
+	    throw new IllegalArgumentException("Missing threshold: " + key + ".");
+
+	return Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Determines the thresholds to use, as described in the class documentation.
+     * 
+     * @return The thresholds.
+     */
+    private static ArrayCopyThresholds initialize() {
+	String profile = System.getProperty(PROFILE_PROPERTY);
+	if (profile != null) {
+	    try {
+		return load(Paths.get(profile));
+	    } catch (IOException | IllegalArgumentException e) {
+		System.getLogger(ArrayCopyThresholds.class.getName()).log(Level.WARNING,
+			"Failed to load array copy profile " + profile + ", falling back to the defaults.", e);
+	    }
+	} else if (Boolean.getBoolean(CALIBRATE_PROPERTY)) {
+	    return calibrate();
+	}
+
+	return new ArrayCopyThresholds(DEFAULT_THRESHOLD, DEFAULT_THRESHOLD, DEFAULT_THRESHOLD, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the threshold for arrays of the specified component type.
+     * 
+     * @param componentType
+     *            The component type of the arrays, e.g. {@code int.class} for {@code int[]}.
+     *            Every non-primitive type denotes a reference array.
+     * @return The length from which on {@link System#arraycopy(Object, int, Object, int, int)}
+     *         is used.
+     * @throws NullPointerException
+     *             if the component type is {@code null}.
+     */
+    public int getThreshold(Class<?> componentType) {
+	Objects.requireNonNull(componentType);
+
+	if (!componentType.isPrimitive())
+	    return reference;
+	if (componentType == long.class || componentType == double.class)
+	    return longs;
+	if (componentType == byte.class || componentType == boolean.class)
+	    return bytes;
+
+	return ints;
+    }
+
+    /**
+     * Writes these thresholds as a profile to the specified path, so that they can later be
+     * {@link #load(Path) loaded} instead of calibrated.
+     * 
+     * @param path
+     *            The path of the profile.
+     * @throws IOException
+     *             if the profile could not be written.
+     */
+    public void store(Path path) throws IOException {
+	Properties properties = new Properties();
+	properties.setProperty("reference", String.valueOf(reference));
+	properties.setProperty("int", String.valueOf(ints));
+	properties.setProperty("long", String.valueOf(longs));
+	properties.setProperty("byte", String.valueOf(bytes));
+
+	String host = System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + ", "
+		+ System.getProperty("os.arch") + ", " + Runtime.getRuntime().availableProcessors() + " processors";
+	try (OutputStream out = Files.newOutputStream(path)) {
+	    properties.store(out, "Array copy thresholds for " + host);
+	}
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj)
+	    return true;
+	if (!(obj instanceof ArrayCopyThresholds))
+	    return false;
+
+	ArrayCopyThresholds other = (ArrayCopyThresholds) obj;
+	return reference == other.reference && ints == other.ints && longs == other.longs && bytes == other.bytes;
+    }
+
+    @Override
+    public int hashCode() {
+	return Objects.hash(reference, ints, longs, bytes);
+    }
+
+    @Override
+    public String toString() {
+	return "ArrayCopyThresholds[reference=" + reference + ", int=" + ints + ", long=" + longs + ", byte=" + bytes + "]";
+    }
+
+    /**
+     * Times both copy methods for a single component type. Each implementation copies between
+     * two arrays of {@link ArrayCopyThresholds#MAX_CALIBRATED_LENGTH} elements, keeping the
+     * copy loops monomorphic so that the measurements reflect the code used by
+     * {@link ArrayUtils}.
+     */
+    private static abstract class Probe {
+
+	/**
+	 * Times {@link ArrayCopyThresholds#SAMPLE_COPIES} element-by-element copies of the
+	 * specified length.
+	 * 
+	 * @param length
+	 *            The amount of elements to copy.
+	 * @return The elapsed time, in nanoseconds.
+	 */
+	abstract long loop(int length);
+
+	/**
+	 * Times {@link ArrayCopyThresholds#SAMPLE_COPIES} system copies of the specified length.
+	 * 
+	 * @param length
+	 *            The amount of elements to copy.
+	 * @return The elapsed time, in nanoseconds.
+	 */
+	abstract long system(int length);
+
+	/**
+	 * Measures the threshold of this probe's component type: the smallest length from which
+	 * on the system copy is no slower than the element-by-element copy for every measured
+	 * length.
+	 * 
+	 * @return The threshold.
+	 */
+	final int calibrate() {
+	    for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+		for (int length = 1; length <= MAX_CALIBRATED_LENGTH; length++) {
+		    loop(length);
+		    system(length);
+		}
+	    }
+
+	    int threshold = MAX_CALIBRATED_LENGTH + 1;
+	    for (int length = MAX_CALIBRATED_LENGTH; length > 0; length--) {
+		long loop = Long.MAX_VALUE, system = Long.MAX_VALUE;
+		for (int sample = 0; sample < SAMPLES; sample++) {
+		    loop = Math.min(loop, loop(length));
+		    system = Math.min(system, system(length));
+		}
+
+		if (system > loop)
+		    break;
+		threshold = length;
+	    }
+
+	    return threshold;
+	}
+
+    }
+
+    /**
+     * The {@link Probe} for reference arrays.
+     */
+    private static final class ReferenceProbe extends Probe {
+
+	/**
+	 * The arrays that are copied between.
+	 */
+	private final Object[] src = new Object[MAX_CALIBRATED_LENGTH], dest = new Object[MAX_CALIBRATED_LENGTH];
+
+	ReferenceProbe() {
+	    for (int i = 0; i < MAX_CALIBRATED_LENGTH; i++)
+		src[i] = i;
+	}
+
+	@Override
+	long loop(int length) {
+	    Object[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++) {
+		for (int i = 0; i < length; i++)
+		    dest[i] = src[i];
+	    }
+	    return System.nanoTime() - start;
+	}
+
+	@Override
+	long system(int length) {
+	    Object[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++)
+		System.arraycopy(src, 0, dest, 0, length);
+	    return System.nanoTime() - start;
+	}
+
+    }
+
+    /**
+     * The {@link Probe} for {@code int} arrays.
+     */
+    private static final class IntProbe extends Probe {
+
+	/**
+	 * The arrays that are copied between.
+	 */
+	private final int[] src = new int[MAX_CALIBRATED_LENGTH], dest = new int[MAX_CALIBRATED_LENGTH];
+
+	@Override
+	long loop(int length) {
+	    int[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++) {
+		for (int i = 0; i < length; i++)
+		    dest[i] = src[i];
+	    }
+	    return System.nanoTime() - start;
+	}
+
+	@Override
+	long system(int length) {
+	    int[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++)
+		System.arraycopy(src, 0, dest, 0, length);
+	    return System.nanoTime() - start;
+	}
+
+    }
+
+    /**
+     * The {@link Probe} for {@code long} arrays.
+     */
+    private static final class LongProbe extends Probe {
+
+	/**
+	 * The arrays that are copied between.
+	 */
+	private final long[] src = new long[MAX_CALIBRATED_LENGTH], dest = new long[MAX_CALIBRATED_LENGTH];
+
+	@Override
+	long loop(int length) {
+	    long[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++) {
+		for (int i = 0; i < length; i++)
+		    dest[i] = src[i];
+	    }
+	    return System.nanoTime() - start;
+	}
+
+	@Override
+	long system(int length) {
+	    long[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++)
+		System.arraycopy(src, 0, dest, 0, length);
+	    return System.nanoTime() - start;
+	}
+
+    }
+
+    /**
+     * The {@link Probe} for {@code byte} arrays.
+     */
+    private static final class ByteProbe extends Probe {
+
+	/**
+	 * The arrays that are copied between.
+	 */
+	private final byte[] src = new byte[MAX_CALIBRATED_LENGTH], dest = new byte[MAX_CALIBRATED_LENGTH];
+
+	@Override
+	long loop(int length) {
+	    byte[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++) {
+		for (int i = 0; i < length; i++)
+		    dest[i] = src[i];
+	    }
+	    return System.nanoTime() - start;
+	}
+
+	@Override
+	long system(int length) {
+	    byte[] src = this.src, dest = this.dest;
+	    long start = System.nanoTime();
+	    for (int copy = 0; copy < SAMPLE_COPIES; copy++)
+		System.arraycopy(src, 0, dest, 0, length);
+	    return System.nanoTime() - start;
+	}
+
+    }
+}
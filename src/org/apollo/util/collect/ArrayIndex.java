@@ -0,0 +1,156 @@
+package org.apollo.util.collect;
+
+import java.util.Objects;
+
+/**
+ * An immutable lookup index over the elements of an array, answering {@link #contains(Object)}
+ * and {@link #indexOf(Object)} in constant expected time rather than scanning the array, as
+ * {@link ArrayUtils#indexOf(Object, Object...)} does. Elements are compared using their
+ * {@link Object#equals(Object) equality method}, and {@code null} elements are supported.
+ * <p>
+ * The index is a flat open-addressing table of two parallel arrays, without any entry objects,
+ * filled to at most half of its capacity. It is built once from a snapshot of the array, so
+ * later changes to the array are not reflected. Instances of this class are immutable, and thus
+ * safe to share between threads, provided the elements themselves are not mutated in a way
+ * that changes their hash code.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @param <T>
+ *            The type of the indexed elements.
+ * @see IntArrayIndex
+ * @see LongArrayIndex
+ */
+public final class ArrayIndex<T> {
+
+    /**
+     * The largest length of an array that can be indexed, such that the table is at most half
+     * full.
+     */
+    static final int MAX_LENGTH = 1 << 29;
+
+    /**
+     * The indexed element in each slot of the table.
+     */
+    private final Object[] keys;
+
+    /**
+     * The index in the array of the element in each slot of the table, plus one, or {@code 0}
+     * for empty slots.
+     */
+    private final int[] positions;
+
+    /**
+     * The amount of bits to shift a hash to the right to obtain a slot.
+     */
+    private final int shift;
+
+    /**
+     * The length of the indexed array.
+     */
+    private final int size;
+
+    /**
+     * Creates the index over the elements of the specified array. Should the array hold equal
+     * elements, the first of them is indexed.
+     * 
+     * @param array
+     *            The array to be indexed.
+     * @throws IllegalArgumentException
+     *             if the array is longer than {@code 2^29} elements.
+     */
+    @SafeVarargs
+    public ArrayIndex(T... array) {
+	int length = array.length, capacity = capacity(length);
+	keys = new Object[capacity];
+	positions = new int[capacity];
+	shift = shift(capacity);
+	size = length;
+
+	for (int index = 0; index < length; index++) {
+	    T element = array[index];
+	    int slot = find(element);
+	    if (positions[slot] == 0) {
+		keys[slot] = element;
+		positions[slot] = index + 1;
+	    }
+	}
+    }
+
+    /**
+     * Returns the capacity of a table that holds the specified amount of elements.
+     * 
+     * @param length
+     *            The amount of elements.
+     * @return The capacity, a power of two of at least twice the amount of elements.
+     * @throws IllegalArgumentException
+     *             if the amount of elements is larger than {@link #MAX_LENGTH}.
+     */
+    static int capacity(int length) {
+	if (length > MAX_LENGTH)
+	    throw new IllegalArgumentException("Cannot index more than " + MAX_LENGTH + " elements, was " + length + ".");
+
+	return (length == 0) ? 2 : Integer.highestOneBit(length * 2 - 1) << 1;
+    }
+
+    /**
+     * Returns the amount of bits to shift a 32-bit hash to the right to obtain a slot of a table
+     * of the specified capacity.
+     * 
+     * @param capacity
+     *            The capacity, which is a power of two.
+     * @return The shift.
+     */
+    static int shift(int capacity) {
+	return Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Returns the slot that holds the specified value, or the empty slot in which it would be
+     * stored.
+     * 
+     * @param value
+     *            The value.
+     * @return The slot.
+     */
+    private int find(Object value) {
+	int mask = positions.length - 1;
+	int slot = (Objects.hashCode(value) * 0x9E3779B9) >>> shift;
+	while (positions[slot] != 0 && !Objects.equals(keys[slot], value))
+	    slot = (slot + 1) & mask;
+	return slot;
+    }
+
+    /**
+     * Returns whether the indexed array contains the specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    public boolean contains(Object value) {
+	return positions[find(value)] != 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the indexed array.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public int indexOf(Object value) {
+	return positions[find(value)] - 1;
+    }
+
+    /**
+     * Returns the length of the indexed array.
+     * 
+     * @return The length of the array.
+     */
+    public int size() {
+	return size;
+    }
+
+}
@@ -0,0 +1,256 @@
+package org.apollo.util.collect;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The fork/join engine behind the parallel operations of {@link ArrayUtils}. A range of array
+ * indices is split in halves until the halves are no larger than the split size, after which
+ * each remaining range is processed sequentially by a {@link RangeAction}, or counted by a
+ * {@link RangeCounter} whose partial counts are summed as the halves are joined.
+ * <p>
+ * The split size of an operation is derived from the length of the range and the parallelism
+ * of the pool, such that each worker receives several ranges to balance the load, but is never
+ * smaller than the minimum split size requested by the caller. Ranges no larger than the
+ * minimum split size are processed on the calling thread, without involving the pool at all.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+final class ArrayTasks {
+
+    /**
+     * The amount of ranges created per worker of the pool, so that workers that finish early
+     * can steal the ranges of those that do not.
+     */
+    static final int RANGES_PER_WORKER = 4;
+
+    /**
+     * An action that processes a range of array indices.
+     */
+    @FunctionalInterface
+    interface RangeAction {
+
+	/**
+	 * Processes the specified range of indices.
+	 * 
+	 * @param from
+	 *            The first index of the range (inclusive).
+	 * @param to
+	 *            The last index of the range (exclusive).
+	 */
+	void apply(int from, int to);
+
+    }
+
+    /**
+     * A function that counts over a range of array indices.
+     */
+    @FunctionalInterface
+    interface RangeCounter {
+
+	/**
+	 * Counts over the specified range of indices.
+	 * 
+	 * @param from
+	 *            The first index of the range (inclusive).
+	 * @param to
+	 *            The last index of the range (exclusive).
+	 * @return The count of the range.
+	 */
+	int count(int from, int to);
+
+    }
+
+    /**
+     * Applies the specified action to the range {@code [from, to)}, in parallel if the range is
+     * larger than the minimum split size.
+     * 
+     * @param pool
+     *            The pool that executes the parallel ranges.
+     * @param minSplitSize
+     *            The minimum amount of indices processed sequentially.
+     * @param from
+     *            The first index of the range (inclusive).
+     * @param to
+     *            The last index of the range (exclusive).
+     * @param action
+     *            The action that processes each range.
+     */
+    static void forEach(ForkJoinPool pool, int minSplitSize, int from, int to, RangeAction action) {
+	int length = to - from;
+	if (length <= minSplitSize || pool.getParallelism() == 1) {
+	    action.apply(from, to);
+	    return;
+	}
+
+	invoke(pool, new RangeTask(action, splitSize(pool, minSplitSize, length), from, to));
+    }
+
+    /**
+     * Counts over the range {@code [from, to)} using the specified counter, in parallel if the
+     * range is larger than the minimum split size. Each range is counted locally, and the partial
+     * counts are summed as the tasks are joined, so the workers never share a counter.
+     * 
+     * @param pool
+     *            The pool that executes the parallel ranges.
+     * @param minSplitSize
+     *            The minimum amount of indices processed sequentially.
+     * @param from
+     *            The first index of the range (inclusive).
+     * @param to
+     *            The last index of the range (exclusive).
+     * @param counter
+     *            The counter that counts over each range.
+     * @return The sum of the counts of all ranges.
+     */
+    static int count(ForkJoinPool pool, int minSplitSize, int from, int to, RangeCounter counter) {
+	int length = to - from;
+	if (length <= minSplitSize || pool.getParallelism() == 1)
+	    return counter.count(from, to);
+
+	return invoke(pool, new CountTask(counter, splitSize(pool, minSplitSize, length), from, to));
+    }
+
+    /**
+     * Checks that the specified minimum split size is positive.
+     * 
+     * @param minSplitSize
+     *            The minimum split size.
+     * @return The minimum split size.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    static int checkSplitSize(int minSplitSize) {
+	if (minSplitSize < 1)
+	    throw new IllegalArgumentException("Minimum split size must be positive, was " + minSplitSize + ".");
+
+	return minSplitSize;
+    }
+
+    /**
+     * Invokes the specified task in the specified pool, directly if the current thread is
+     * already one of the pool's workers.
+     * 
+     * @param pool
+     *            The pool.
+     * @param task
+     *            The task.
+     * @return The result of the task.
+     */
+    static <V> V invoke(ForkJoinPool pool, ForkJoinTask<V> task) {
+	return (ForkJoinTask.getPool() == pool) ? task.invoke() : pool.invoke(task);
+    }
+
+    /**
+     * Calculates the split size of an operation over the specified amount of indices.
+     * 
+     * @param pool
+     *            The pool that executes the operation.
+     * @param minSplitSize
+     *            The minimum split size.
+     * @param length
+     *            The amount of indices.
+     * @return The split size.
+     */
+    static int splitSize(ForkJoinPool pool, int minSplitSize, int length) {
+	int ranges = pool.getParallelism() * RANGES_PER_WORKER;
+	return Math.max(minSplitSize, (length + ranges - 1) / ranges);
+    }
+
+    /**
+     * The task that splits a range of indices in halves, until they are small enough to be
+     * processed sequentially.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The action that processes each range.
+	 */
+	private final RangeAction action;
+
+	/**
+	 * The size below which a range is no longer split.
+	 */
+	private final int splitSize;
+
+	/**
+	 * The range of this task.
+	 */
+	private final int from, to;
+
+	RangeTask(RangeAction action, int splitSize, int from, int to) {
+	    this.action = action;
+	    this.splitSize = splitSize;
+	    this.from = from;
+	    this.to = to;
+	}
+
+	@Override
+	protected void compute() {
+	    if (to - from <= splitSize) {
+		action.apply(from, to);
+		return;
+	    }
+
+	    int middle = (from + to) >>> 1;
+	    invokeAll(new RangeTask(action, splitSize, from, middle), new RangeTask(action, splitSize, middle, to));
+	}
+
+    }
+
+    /**
+     * The task that splits a range of indices in halves, until they are small enough to be
+     * counted sequentially, and sums the counts of the halves.
+     */
+    private static final class CountTask extends RecursiveTask<Integer> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The counter that counts over each range.
+	 */
+	private final RangeCounter counter;
+
+	/**
+	 * The size below which a range is no longer split.
+	 */
+	private final int splitSize;
+
+	/**
+	 * The range of this task.
+	 */
+	private final int from, to;
+
+	CountTask(RangeCounter counter, int splitSize, int from, int to) {
+	    this.counter = counter;
+	    this.splitSize = splitSize;
+	    this.from = from;
+	    this.to = to;
+	}
+
+	@Override
+	protected Integer compute() {
+	    if (to - from <= splitSize)
+		return counter.count(from, to);
+
+	    int middle = (from + to) >>> 1;
+	    CountTask upper = new CountTask(counter, splitSize, middle, to);
+	    upper.fork();
+	    int lower = new CountTask(counter, splitSize, from, middle).compute();
+	    return lower + upper.join();
+	}
+
+    }
+
+    /**
+     * Default private constructor to prevent external instantiation.
+     */
+    private ArrayTasks() {
+    }
+
+}
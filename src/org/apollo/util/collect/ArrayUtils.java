@@ -3,13 +3,31 @@ package org.apollo.util.collect;
 import static java.lang.String.valueOf;
 import static java.lang.reflect.Array.newInstance;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
+
+import org.apollo.util.RandomSources;
+import org.apollo.util.collect.StrategySelector.Operation;
+import org.apollo.util.function.IntIntConsumer;
+import org.apollo.util.function.IntLongConsumer;
+import org.apollo.util.function.IntObjConsumer;
 
 /**
  * A class that provides various static utility methods for arrays. This class is supposed to
@@ -20,15 +38,69 @@ import java.util.stream.Stream;
 public final class ArrayUtils {
 
     /**
-     * Empirically determined point at which the average cost of a JNI call exceeds the expense
-     * of an element-by-element copy. This number may change over time.
+     * The length from which on reference arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element, as determined by the {@link ArrayCopyThresholds#current() current thresholds}.
+     */
+    private static final int REFERENCE_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(Object.class);
+
+    /**
+     * The length from which on {@code int} arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element.
+     */
+    private static final int INT_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(int.class);
+
+    /**
+     * The length from which on {@code long} arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element.
+     */
+    private static final int LONG_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(long.class);
+
+    /**
+     * The length from which on {@code byte} arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element.
+     */
+    private static final int BYTE_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(byte.class);
+
+    /**
+     * The length from which on {@code short} arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element.
+     */
+    private static final int SHORT_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(short.class);
+
+    /**
+     * The length from which on {@code double} arrays are copied using the native
+     * {@link System#arraycopy(Object, int, Object, int, int)} method rather than element by
+     * element.
      */
-    private static final int JNI_COPY_ARRAY_THRESHOLD = 6;
+    private static final int DOUBLE_COPY_THRESHOLD = ArrayCopyThresholds.current().getThreshold(double.class);
+
+    /**
+     * The amount of uniformly random indices that are tried before a random non-{@code null}
+     * selection falls back to counting the candidates and selecting one by rank.
+     */
+    private static final int RANDOM_NON_NULL_ATTEMPTS = 4;
+
+    /**
+     * The amount of elements that an object array fill stores one by one, before doubling the
+     * filled part with {@link System#arraycopy}.
+     */
+    private static final int FILL_SEED_LENGTH = 64;
+
+    /**
+     * A view of {@code byte} arrays as little-endian {@code long} values, used to compare eight
+     * elements at a time.
+     */
+    private static final VarHandle LONG_BYTES = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
     /**
      * Short-hand method for deciding whether or not to use the native
      * {@link System#arraycopy(Object, int, Object, int, int)} method or an element-by-element
-     * copy, based on the {@link #JNI_COPY_ARRAY_THRESHOLD}.
+     * copy, based on the {@link #REFERENCE_COPY_THRESHOLD}.
      * 
      * @param src
      *            The source array.
@@ -39,10 +111,140 @@ public final class ArrayUtils {
      * @param destPos
      *            The destination starting position.
      * @param length
-     *            The amount of bytes to copy.
+     *            The amount of elements to copy.
      */
     private static <T> void arraycopy(T[] src, int srcPos, T[] dest, int destPos, int length) {
-	if (length >= JNI_COPY_ARRAY_THRESHOLD) {
+	if (length >= REFERENCE_COPY_THRESHOLD) {
+	    System.arraycopy(src, srcPos, dest, destPos, length);
+	} else {
+	    for (int i = 0; i < length; i++) {
+		dest[destPos + i] = src[srcPos + i];
+	    }
+	}
+    }
+
+    /**
+     * Copies part of an {@code int} array, as specified by
+     * {@link #arraycopy(Object[], int, Object[], int, int)}, based on the
+     * {@link #INT_COPY_THRESHOLD}.
+     * 
+     * @param src
+     *            The source array.
+     * @param srcPos
+     *            The source starting position.
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param length
+     *            The amount of elements to copy.
+     */
+    private static void arraycopy(int[] src, int srcPos, int[] dest, int destPos, int length) {
+	if (length >= INT_COPY_THRESHOLD) {
+	    System.arraycopy(src, srcPos, dest, destPos, length);
+	} else {
+	    for (int i = 0; i < length; i++) {
+		dest[destPos + i] = src[srcPos + i];
+	    }
+	}
+    }
+
+    /**
+     * Copies part of a {@code long} array, as specified by
+     * {@link #arraycopy(Object[], int, Object[], int, int)}, based on the
+     * {@link #LONG_COPY_THRESHOLD}.
+     * 
+     * @param src
+     *            The source array.
+     * @param srcPos
+     *            The source starting position.
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param length
+     *            The amount of elements to copy.
+     */
+    private static void arraycopy(long[] src, int srcPos, long[] dest, int destPos, int length) {
+	if (length >= LONG_COPY_THRESHOLD) {
+	    System.arraycopy(src, srcPos, dest, destPos, length);
+	} else {
+	    for (int i = 0; i < length; i++) {
+		dest[destPos + i] = src[srcPos + i];
+	    }
+	}
+    }
+
+    /**
+     * Copies part of a {@code byte} array, as specified by
+     * {@link #arraycopy(Object[], int, Object[], int, int)}, based on the
+     * {@link #BYTE_COPY_THRESHOLD}.
+     * 
+     * @param src
+     *            The source array.
+     * @param srcPos
+     *            The source starting position.
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param length
+     *            The amount of elements to copy.
+     */
+    private static void arraycopy(byte[] src, int srcPos, byte[] dest, int destPos, int length) {
+	if (length >= BYTE_COPY_THRESHOLD) {
+	    System.arraycopy(src, srcPos, dest, destPos, length);
+	} else {
+	    for (int i = 0; i < length; i++) {
+		dest[destPos + i] = src[srcPos + i];
+	    }
+	}
+    }
+
+    /**
+     * Copies part of a {@code short} array, as specified by
+     * {@link #arraycopy(Object[], int, Object[], int, int)}, based on the
+     * {@link #SHORT_COPY_THRESHOLD}.
+     * 
+     * @param src
+     *            The source array.
+     * @param srcPos
+     *            The source starting position.
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param length
+     *            The amount of elements to copy.
+     */
+    private static void arraycopy(short[] src, int srcPos, short[] dest, int destPos, int length) {
+	if (length >= SHORT_COPY_THRESHOLD) {
+	    System.arraycopy(src, srcPos, dest, destPos, length);
+	} else {
+	    for (int i = 0; i < length; i++) {
+		dest[destPos + i] = src[srcPos + i];
+	    }
+	}
+    }
+
+    /**
+     * Copies part of a {@code double} array, as specified by
+     * {@link #arraycopy(Object[], int, Object[], int, int)}, based on the
+     * {@link #DOUBLE_COPY_THRESHOLD}.
+     * 
+     * @param src
+     *            The source array.
+     * @param srcPos
+     *            The source starting position.
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param length
+     *            The amount of elements to copy.
+     */
+    private static void arraycopy(double[] src, int srcPos, double[] dest, int destPos, int length) {
+	if (length >= DOUBLE_COPY_THRESHOLD) {
 	    System.arraycopy(src, srcPos, dest, destPos, length);
 	} else {
 	    for (int i = 0; i < length; i++) {
@@ -79,6 +281,7 @@ public final class ArrayUtils {
      *            The array over which the action is invoked.
      * @throws NullPointerException
      *             if action is {@code null}.
+     * @see #forEachIndexed(IntObjConsumer, Object...)
      */
     @SafeVarargs
     public static <T> void forEach(BiConsumer<Integer, ? super T> action, T... array) {
@@ -90,398 +293,4397 @@ public final class ArrayUtils {
     }
 
     /**
-     * Creates a new array with the specified length. Each element in the returned array will
-     * have the specified default value.
+     * Invokes, over each element in the specified array, the specified action. Unlike
+     * {@link #forEach(BiConsumer, Object...)}, the index is passed as a primitive {@code int},
+     * so no {@link Integer} is allocated per element.
      * 
-     * @param length
-     *            The length of the new array.
-     * @param defaultValue
-     *            The default element value at the index of each array.
-     * @return The newly created array.
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments: the array index and the element at the index.
+     * @param array
+     *            The array over which the action is invoked.
      * @throws NullPointerException
-     *             if the default value is {@code null}.
+     *             if action is {@code null}.
      */
-    public static <T> T[] newArray(final int length, final T defaultValue) {
-	Objects.requireNonNull(defaultValue);
+    @SafeVarargs
+    public static <T> void forEachIndexed(IntObjConsumer<? super T> action, T... array) {
+	Objects.requireNonNull(action);
 
-	@SuppressWarnings("unchecked")
-	T[] array = (T[]) newInstance(defaultValue.getClass(), length);
+	int length = array.length;
 	for (int i = 0; i < length; i++)
-	    array[i] = defaultValue;
-
-	return array;
+	    action.accept(i, array[i]);
     }
 
     /**
-     * Creates a new array with the specified length. Each element in the returned array will
-     * have the specified default value.
+     * Invokes, over each element in the specified {@code int} array, the specified action.
+     * The array precedes the action, so that an implicitly typed lambda is not ambiguous
+     * between the primitive overloads of this method.
      * 
-     * @param length
-     *            The length of the new array.
-     * @param defaultValue
-     *            The default element value at the index of each array.
-     * @return The newly created array.
+     * @param array
+     *            The array over which the action is invoked.
+     * @param action
+     *            The action that is to be invoked. This {@link IntIntConsumer} accepts two
+     *            arguments: the array index and the element at the index.
      * @throws NullPointerException
-     *             if the default value is {@code null}.
+     *             if action is {@code null}.
      */
-    public static int[] newArray(final int length, final int defaultValue) {
-	switch (length) {
-	case 0:
-	    return new int[0];
-	case 1:
-	    return new int[] { defaultValue };
-	case 2:
-	    return new int[] { defaultValue, defaultValue };
-	case 3:
-	    return new int[] { defaultValue, defaultValue, defaultValue };
-	default:
-	    final int[] array = new int[length];
-	    for (int i = 0; i < length; i++)
-		array[i] = defaultValue;
+    public static void forEachIndexed(int[] array, IntIntConsumer action) {
+	Objects.requireNonNull(action);
 
-	    return array;
-	}
+	int length = array.length;
+	for (int i = 0; i < length; i++)
+	    action.accept(i, array[i]);
     }
 
     /**
-     * Replaces a specific index within an array with the specified replacement.
+     * Invokes, over each element in the specified {@code long} array, the specified action.
+     * The array precedes the action, so that an implicitly typed lambda is not ambiguous
+     * between the primitive overloads of this method.
      * 
      * @param array
-     *            The array to be altering.
-     * @param index
-     *            The index within the array.
-     * @param replacement
-     *            The object that will be replacing the object currently found at the specified
-     *            index.
-     * @return The object that was previously found at the specified index ({@code null} if
-     *         none was).
-     * @throws ArrayIndexOutOfBoundsException
-     *             if the specified index is out of bounds.
+     *            The array over which the action is invoked.
+     * @param action
+     *            The action that is to be invoked. This {@link IntLongConsumer} accepts two
+     *            arguments: the array index and the element at the index.
+     * @throws NullPointerException
+     *             if action is {@code null}.
      */
-    public static <T> T replace(T[] array, int index, T replacement) {
-	T old = array[index];
-	array[index] = replacement;
-	return old;
+    public static void forEachIndexed(long[] array, IntLongConsumer action) {
+	Objects.requireNonNull(action);
+
+	int length = array.length;
+	for (int i = 0; i < length; i++)
+	    action.accept(i, array[i]);
     }
 
     /**
-     * Returns a randomly selected element from the specified {@code int} array, as defined by
-     * {@link Math#random()}.
+     * Invokes, in parallel, over each element in the specified array, the specified action.
+     * The array is split across the {@link ForkJoinPool#commonPool() common pool}; arrays that
+     * are too small to benefit are processed on the calling thread.
      * 
+     * @param action
+     *            The action that is to be invoked. This {@link Consumer} accepts one argument,
+     *            which is the current element. It may be invoked concurrently.
      * @param array
-     *            The array to be selecting a random element from.
-     * @return The randomly selected element.
+     *            The array over which the action is invoked.
+     * @throws NullPointerException
+     *             if action is {@code null}.
      */
-    public static int random(int... array) {
-	switch (array.length) {
-	case 0:
-	    return 0;
-	case 1:
-	    return array[0];
-	default:
-	    int selection = (int) (Math.random() * array.length);
-	    return array[selection];
-	}
+    @SafeVarargs
+    public static <T> void parallelForEach(Consumer<? super T> action, T... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FOR_EACH, array.length, pool);
+	parallelForEach(pool, minSplitSize, action, array, 0, array.length);
     }
 
     /**
-     * Returns a randomly selected element from the specified array, as defined by
-     * {@link Math#random()}.
+     * Invokes, in parallel, over each element in the specified array, the specified action.
      * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Arrays no longer than this are processed on the calling thread.
+     * @param action
+     *            The action that is to be invoked. This {@link Consumer} accepts one argument,
+     *            which is the current element. It may be invoked concurrently.
      * @param array
-     *            The array to be selecting a random element from.
-     * @return The randomly selected element.
+     *            The array over which the action is invoked.
+     * @throws NullPointerException
+     *             if pool or action is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
      */
     @SafeVarargs
-    public static <T> T random(T... array) {
-	switch (array.length) {
-	case 0:
-	    return null;
-	case 1:
-	    return array[0];
-	default:
-	    int selection = (int) (Math.random() * array.length);
-	    return array[selection];
-	}
+    public static <T> void parallelForEach(ForkJoinPool pool, int minSplitSize, Consumer<? super T> action, T... array) {
+	parallelForEach(pool, minSplitSize, action, array, 0, array.length);
     }
 
     /**
-     * Concatenates all arrays of type {@code T} to a single one, using the system's array
-     * copying functionality. Changes made to any of the source arrays will never be reflected
-     * in the returned one, or vice versa.
+     * Invokes, in parallel, over each element in the specified range of the specified array,
+     * the specified action.
      * 
-     * @param arrays
-     *            The arrays that are to be concatenated.
-     * @return A concatenation of all arrays.
+     * @param pool
+     *            The pool that the range is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Ranges no longer than this are processed on the calling thread.
+     * @param action
+     *            The action that is to be invoked. This {@link Consumer} accepts one argument,
+     *            which is the current element. It may be invoked concurrently.
+     * @param array
+     *            The array over which the action is invoked.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if pool or action is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
      */
-    @SuppressWarnings("unchecked")
-    @SafeVarargs
-    public static <T> T[] concat(T[]... arrays) {
-	int length = arrays.length;
-	if (length == 0)
-	    return (T[]) new Object[0];
-	else if (length == 1)
-	    return arrays[0].clone();
-
-	length = 0;
-	for (T[] array : arrays)
-	    length += array.length;
+    public static <T> void parallelForEach(ForkJoinPool pool, int minSplitSize, Consumer<? super T> action, T[] array,
+	    int fromIndex, int toIndex) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(action);
+	ArrayTasks.checkSplitSize(minSplitSize);
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
 
-	Class<?> type = arrays.getClass().getComponentType().getComponentType();
-	final T[] result = (T[]) newInstance(type, length);
-	int offset = 0;
-	for (T[] array : arrays) {
-	    int len = array.length;
+	ArrayTasks.forEach(pool, minSplitSize, fromIndex, toIndex, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		action.accept(array[i]);
+	});
+    }
 
-	    if (len == 0)
+    /**
+     * Invokes, in parallel, over each element in the specified array, the specified action.
+     * The array is split across the {@link ForkJoinPool#commonPool() common pool}; arrays that
+     * are too small to benefit are processed on the calling thread.
+     * 
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments: the array index and the element at the index. It may be invoked
+     *            concurrently.
+     * @param array
+     *            The array over which the action is invoked.
+     * @throws NullPointerException
+     *             if action is {@code null}.
+     */
+    @SafeVarargs
+    public static <T> void parallelForEachIndexed(IntObjConsumer<? super T> action, T... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FOR_EACH, array.length, pool);
+	parallelForEachIndexed(pool, minSplitSize, action, array, 0, array.length);
+    }
+
+    /**
+     * Invokes, in parallel, over each element in the specified array, the specified action.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Arrays no longer than this are processed on the calling thread.
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments: the array index and the element at the index. It may be invoked
+     *            concurrently.
+     * @param array
+     *            The array over which the action is invoked.
+     * @throws NullPointerException
+     *             if pool or action is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <T> void parallelForEachIndexed(ForkJoinPool pool, int minSplitSize, IntObjConsumer<? super T> action,
+	    T... array) {
+	parallelForEachIndexed(pool, minSplitSize, action, array, 0, array.length);
+    }
+
+    /**
+     * Invokes, in parallel, over each element in the specified range of the specified array,
+     * the specified action.
+     * 
+     * @param pool
+     *            The pool that the range is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Ranges no longer than this are processed on the calling thread.
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments: the array index and the element at the index. It may be invoked
+     *            concurrently.
+     * @param array
+     *            The array over which the action is invoked.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if pool or action is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static <T> void parallelForEachIndexed(ForkJoinPool pool, int minSplitSize, IntObjConsumer<? super T> action,
+	    T[] array, int fromIndex, int toIndex) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(action);
+	ArrayTasks.checkSplitSize(minSplitSize);
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+
+	ArrayTasks.forEach(pool, minSplitSize, fromIndex, toIndex, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		action.accept(i, array[i]);
+	});
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. The component type of the array is the class of the
+     * default value, so the array cannot hold instances of other subclasses of {@code T}; see
+     * {@link #newArray(int, Object, IntFunction)} to specify the component type instead. The
+     * array is filled in the {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if the default value is {@code null}.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static <T> T[] newArray(final int length, final T defaultValue) {
+	Objects.requireNonNull(defaultValue);
+
+	@SuppressWarnings("unchecked")
+	T[] array = (T[]) newInstance(defaultValue.getClass(), length);
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> fill(array, from, to, defaultValue));
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length, using the specified generator (e.g.
+     * {@code String[]::new}) rather than reflection. Each element in the returned array will
+     * have the specified default value. The array is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array, which may be
+     *            {@code null}.
+     * @param generator
+     *            The function that creates an array of the requested length.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if the generator is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the generator returns an array whose length differs from the requested
+     *             length.
+     */
+    public static <T> T[] newArray(final int length, final T defaultValue, final IntFunction<T[]> generator) {
+	return parallelNewArray(length, defaultValue, generator);
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code 0}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static int[] newArray(final int length, final int defaultValue) {
+	final int[] array = new int[length];
+	if (defaultValue != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code 0}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static long[] newArray(final int length, final long defaultValue) {
+	final long[] array = new long[length];
+	if (defaultValue != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code 0}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static short[] newArray(final int length, final short defaultValue) {
+	final short[] array = new short[length];
+	if (defaultValue != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code 0}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static byte[] newArray(final int length, final byte defaultValue) {
+	final byte[] array = new byte[length];
+	if (defaultValue != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code 0}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static char[] newArray(final int length, final char defaultValue) {
+	final char[] array = new char[length];
+	if (defaultValue != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be positive zero, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static float[] newArray(final int length, final float defaultValue) {
+	final float[] array = new float[length];
+	if (Float.floatToRawIntBits(defaultValue) != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be positive zero, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static double[] newArray(final int length, final double defaultValue) {
+	final double[] array = new double[length];
+	if (Double.doubleToRawLongBits(defaultValue) != 0) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length. Each element in the returned array will
+     * have the specified default value. Should the default value be {@code false}, the array is
+     * returned as allocated, without being filled. Otherwise it is filled in the
+     * {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static boolean[] newArray(final int length, final boolean defaultValue) {
+	final boolean[] array = new boolean[length];
+	if (defaultValue) {
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+	}
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length, using the specified generator, filled in
+     * parallel with the specified default value if it is long enough for that to pay off.
+     * Parellel array operations are useful when working with larger arrays on a multi-core
+     * machine.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array, which may be
+     *            {@code null}.
+     * @param generator
+     *            The function that creates an array of the requested length.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if the generator is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the generator returns an array whose length differs from the requested
+     *             length.
+     */
+    public static <T> T[] parallelNewArray(final int length, final T defaultValue, final IntFunction<T[]> generator) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	return parallelNewArray(pool, minSplitSize, length, defaultValue, generator);
+    }
+
+    /**
+     * Creates a new array with the specified length, using the specified generator, filled in
+     * parallel with the specified default value. Each worker fills its own ranges of the array.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are filled sequentially by a single
+     *            worker. Arrays no longer than this are filled on the calling thread.
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array, which may be
+     *            {@code null}.
+     * @param generator
+     *            The function that creates an array of the requested length.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if the pool or generator is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive, or if the generator returns an
+     *             array whose length differs from the requested length.
+     */
+    public static <T> T[] parallelNewArray(ForkJoinPool pool, int minSplitSize, final int length, final T defaultValue,
+	    final IntFunction<T[]> generator) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	T[] array = generate(length, generator);
+	if (defaultValue != null)
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> fill(array, from, to, defaultValue));
+
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length, filled in parallel with the specified
+     * default value if it is long enough for that to pay off, as large tables such as region
+     * grids are. Parellel array operations are useful when working with larger arrays on a
+     * multi-core machine.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static int[] parallelNewArray(final int length, final int defaultValue) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	return parallelNewArray(pool, minSplitSize, length, defaultValue);
+    }
+
+    /**
+     * Creates a new array with the specified length, filled in parallel with the specified
+     * default value. Each worker fills its own ranges of the array. Should the default value be
+     * {@code 0}, the array is returned as allocated, without being filled.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are filled sequentially by a single
+     *            worker. Arrays no longer than this are filled on the calling thread.
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if pool is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static int[] parallelNewArray(ForkJoinPool pool, int minSplitSize, final int length, final int defaultValue) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	final int[] array = new int[length];
+	if (defaultValue != 0)
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+
+	return array;
+    }
+
+    /**
+     * Creates a new array with the specified length, filled in parallel with the specified
+     * default value if it is long enough for that to pay off, as large tables such as region
+     * grids are. Parellel array operations are useful when working with larger arrays on a
+     * multi-core machine.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static long[] parallelNewArray(final int length, final long defaultValue) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.FILL, length, pool);
+	return parallelNewArray(pool, minSplitSize, length, defaultValue);
+    }
+
+    /**
+     * Creates a new array with the specified length, filled in parallel with the specified
+     * default value. Each worker fills its own ranges of the array. Should the default value be
+     * {@code 0}, the array is returned as allocated, without being filled.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are filled sequentially by a single
+     *            worker. Arrays no longer than this are filled on the calling thread.
+     * @param length
+     *            The length of the new array.
+     * @param defaultValue
+     *            The default element value at the index of each array.
+     * @return The newly created array.
+     * @throws NullPointerException
+     *             if pool is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     * @throws NegativeArraySizeException
+     *             if the length is negative.
+     */
+    public static long[] parallelNewArray(ForkJoinPool pool, int minSplitSize, final int length, final long defaultValue) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	final long[] array = new long[length];
+	if (defaultValue != 0)
+	    ArrayTasks.forEach(pool, minSplitSize, 0, length, (from, to) -> Arrays.fill(array, from, to, defaultValue));
+
+	return array;
+    }
+
+    /**
+     * Creates an array of the specified length using the specified generator.
+     * 
+     * @param length
+     *            The length of the new array.
+     * @param generator
+     *            The function that creates an array of the requested length.
+     * @return The newly created array.
+     * @throws IllegalArgumentException
+     *             if the generator returns an array whose length differs from the requested
+     *             length.
+     */
+    private static <T> T[] generate(int length, IntFunction<T[]> generator) {
+	T[] array = generator.apply(length);
+	if (array.length != length)
+	    throw new IllegalArgumentException("Generator returned an array of length " + array.length + ", expected " + length
+		    + ".");
+
+	return array;
+    }
+
+    /**
+     * Fills the range {@code [from, to)} of the specified array with the specified value. The
+     * first {@link #FILL_SEED_LENGTH} elements are stored one by one, after which the filled part
+     * of the range is doubled with {@link System#arraycopy}, which stores references in bulk
+     * rather than one at a time as {@link Arrays#fill(Object[], Object)} does.
+     * 
+     * @param array
+     *            The array.
+     * @param from
+     *            The first index of the range (inclusive).
+     * @param to
+     *            The last index of the range (exclusive).
+     * @param value
+     *            The value.
+     */
+    private static void fill(Object[] array, int from, int to, Object value) {
+	int length = to - from, filled = Math.min(length, FILL_SEED_LENGTH);
+	if (length == 0)
+	    return;
+
+	for (int i = from; i < from + filled; i++)
+	    array[i] = value;
+
+	for (; filled <= length - filled; filled += filled)
+	    System.arraycopy(array, from, array, from + filled, filled);
+	if (filled < length)
+	    System.arraycopy(array, from, array, from + filled, length - filled);
+    }
+
+    /**
+     * Replaces a specific index within an array with the specified replacement.
+     * 
+     * @param array
+     *            The array to be altering.
+     * @param index
+     *            The index within the array.
+     * @param replacement
+     *            The object that will be replacing the object currently found at the specified
+     *            index.
+     * @return The object that was previously found at the specified index ({@code null} if
+     *         none was).
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the specified index is out of bounds.
+     */
+    public static <T> T replace(T[] array, int index, T replacement) {
+	T old = array[index];
+	array[index] = replacement;
+	return old;
+    }
+
+    /**
+     * Returns a randomly selected element from the specified {@code int} array, as defined by
+     * the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element.
+     * @see IntWeightedSampler
+     */
+    public static int random(int... array) {
+	return random(RandomSources.current(), array);
+    }
+
+    /**
+     * Returns a randomly selected element from the specified {@code int} array, as defined by
+     * the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code 0} if the array is empty.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static int random(RandomGenerator random, int... array) {
+	switch (array.length) {
+	case 0:
+	    return 0;
+	case 1:
+	    return array[0];
+	default:
+	    return array[random.nextInt(array.length)];
+	}
+    }
+
+    /**
+     * Returns a randomly selected element from the specified array, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element.
+     * @see WeightedSampler
+     */
+    @SafeVarargs
+    public static <T> T random(T... array) {
+	return random(RandomSources.current(), array);
+    }
+
+    /**
+     * Returns a randomly selected element from the specified array, as defined by the specified
+     * source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code null} if the array is empty.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    @SafeVarargs
+    public static <T> T random(RandomGenerator random, T... array) {
+	switch (array.length) {
+	case 0:
+	    return null;
+	case 1:
+	    return array[0];
+	default:
+	    return array[random.nextInt(array.length)];
+	}
+    }
+
+    /**
+     * Returns a randomly selected non-{@code null} element from the specified array, as defined
+     * by the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code null} if the array holds no
+     *         non-{@code null} elements.
+     * @see #randomNonNull(RandomGenerator, Object...)
+     */
+    @SafeVarargs
+    public static <T> T randomNonNull(T... array) {
+	return randomNonNull(RandomSources.current(), array);
+    }
+
+    /**
+     * Returns a randomly selected non-{@code null} element from the specified array, as defined
+     * by the specified source of randomness. Every non-{@code null} element is equally likely to
+     * be selected.
+     * <p>
+     * A few random indices are tried first, which in a reasonably dense array finds an element
+     * in constant expected time. Should these all be {@code null}, the non-{@code null} elements
+     * are counted, and one is selected by rank, which takes two passes over the array. Sparse
+     * arrays that are sampled often should rather keep an occupancy bitmap, see
+     * {@link #randomNonNull(RandomGenerator, long[], Object[])}.
+     * </p>
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code null} if the array holds no
+     *         non-{@code null} elements.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    @SafeVarargs
+    public static <T> T randomNonNull(RandomGenerator random, T... array) {
+	int length = array.length;
+	switch (length) {
+	case 0:
+	    return null;
+	case 1:
+	    return array[0];
+	default:
+	    for (int attempt = 0; attempt < RANDOM_NON_NULL_ATTEMPTS; attempt++) {
+		T element = array[random.nextInt(length)];
+		if (element != null)
+		    return element;
+	    }
+
+	    int count = countNonNull(array);
+	    if (count == 0)
+		return null;
+
+	    int rank = random.nextInt(count);
+	    for (T element : array) {
+		if (element != null && rank-- == 0)
+		    return element;
+	    }
+	    throw new IllegalStateException("Array was modified during selection.");
+	}
+    }
+
+    /**
+     * Returns a randomly selected non-{@code null} element from the specified array, as defined
+     * by the {@link RandomSources#current() current source of randomness} and the specified
+     * occupancy bitmap.
+     * 
+     * @param occupancy
+     *            The occupancy bitmap of the array.
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code null} if no element is occupied.
+     * @see #randomNonNull(RandomGenerator, long[], Object[])
+     */
+    public static <T> T randomNonNull(long[] occupancy, T[] array) {
+	return randomNonNull(RandomSources.current(), occupancy, array);
+    }
+
+    /**
+     * Returns a randomly selected non-{@code null} element from the specified array, as defined
+     * by the specified source of randomness and the specified occupancy bitmap. Bit
+     * {@code i % 64} of {@code occupancy[i / 64]} is expected to be set if, and only if, the
+     * element at index {@code i} is non-{@code null}; the bitmap is trusted and the array itself
+     * is only read at the selected index. Every occupied element is equally likely to be
+     * selected.
+     * <p>
+     * A few random indices are tried against the bitmap first, which finds an element in
+     * constant expected time unless the array is sparse. Otherwise the occupied elements are
+     * counted and one is selected by rank, 64 elements at a time, through
+     * {@link Long#bitCount(long)}.
+     * </p>
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param occupancy
+     *            The occupancy bitmap of the array. Bits beyond the length of the array are
+     *            ignored.
+     * @param array
+     *            The array to be selecting a random element from.
+     * @return The randomly selected element, or {@code null} if no element is occupied.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array is not empty.
+     * @throws IndexOutOfBoundsException
+     *             if the bitmap is too short to cover the array.
+     */
+    public static <T> T randomNonNull(RandomGenerator random, long[] occupancy, T[] array) {
+	int index = randomOccupied(random, occupancy, array.length);
+	return (index < 0) ? null : array[index];
+    }
+
+    /**
+     * Returns a randomly selected index whose bit is set in the specified occupancy bitmap.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param occupancy
+     *            The occupancy bitmap.
+     * @param length
+     *            The amount of indices covered by the bitmap.
+     * @return The randomly selected index, or {@code -1} if no index is occupied.
+     */
+    static int randomOccupied(RandomGenerator random, long[] occupancy, int length) {
+	int words = (length + Long.SIZE - 1) >>> 6;
+	Objects.checkFromIndexSize(0, words, occupancy.length);
+	if (length == 0)
+	    return -1;
+
+	for (int attempt = 0; attempt < RANDOM_NON_NULL_ATTEMPTS; attempt++) {
+	    int index = random.nextInt(length);
+	    if ((occupancy[index >>> 6] & 1L << index) != 0)
+		return index;
+	}
+
+	int count = 0;
+	for (int word = 0; word < words; word++)
+	    count += Long.bitCount(occupied(occupancy, word, length));
+	if (count == 0)
+	    return -1;
+
+	int rank = random.nextInt(count);
+	for (int word = 0;; word++) {
+	    long bits = occupied(occupancy, word, length);
+	    int bitCount = Long.bitCount(bits);
+	    if (rank < bitCount) {
+		for (; rank > 0; rank--)
+		    bits &= bits - 1;
+		return (word << 6) + Long.numberOfTrailingZeros(bits);
+	    }
+	    rank -= bitCount;
+	}
+    }
+
+    /**
+     * Returns the specified word of the specified occupancy bitmap, without the bits beyond the
+     * specified length.
+     * 
+     * @param occupancy
+     *            The occupancy bitmap.
+     * @param word
+     *            The index of the word.
+     * @param length
+     *            The amount of indices covered by the bitmap.
+     * @return The occupied bits of the word.
+     */
+    private static long occupied(long[] occupancy, int word, int length) {
+	long bits = occupancy[word];
+	int remaining = length - (word << 6);
+	return (remaining >= Long.SIZE) ? bits : bits & ((1L << remaining) - 1);
+    }
+
+    /**
+     * Returns {@code k} distinct elements of the specified array, selected at random as defined
+     * by the {@link RandomSources#current() current source of randomness}. Elements are
+     * distinct by position, not by value.
+     * 
+     * @param k
+     *            The amount of elements to select.
+     * @param array
+     *            The array to be selecting the elements from.
+     * @return The selected elements, in random order.
+     * @throws IllegalArgumentException
+     *             if k is negative or greater than the length of the array.
+     * @see #sampleIndices(RandomGenerator, int, int)
+     */
+    @SafeVarargs
+    public static <T> T[] sample(int k, T... array) {
+	return sample(RandomSources.current(), k, array);
+    }
+
+    /**
+     * Returns {@code k} distinct elements of the specified array, selected at random as defined
+     * by the specified source of randomness. Elements are distinct by position, not by value.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param k
+     *            The amount of elements to select.
+     * @param array
+     *            The array to be selecting the elements from.
+     * @return The selected elements, in random order.
+     * @throws IllegalArgumentException
+     *             if k is negative or greater than the length of the array.
+     * @see #sampleIndices(RandomGenerator, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <T> T[] sample(RandomGenerator random, int k, T... array) {
+	int[] indices = sampleIndices(random, k, array.length);
+	T[] result = (T[]) newInstance(array.getClass().getComponentType(), k);
+	for (int i = 0; i < k; i++)
+	    result[i] = array[indices[i]];
+
+	return result;
+    }
+
+    /**
+     * Returns {@code k} distinct elements of the specified {@code int} array, selected at random
+     * as defined by the {@link RandomSources#current() current source of randomness}. Elements
+     * are distinct by position, not by value.
+     * 
+     * @param k
+     *            The amount of elements to select.
+     * @param array
+     *            The array to be selecting the elements from.
+     * @return The selected elements, in random order.
+     * @throws IllegalArgumentException
+     *             if k is negative or greater than the length of the array.
+     * @see #sampleIndices(RandomGenerator, int, int)
+     */
+    public static int[] sample(int k, int... array) {
+	return sample(RandomSources.current(), k, array);
+    }
+
+    /**
+     * Returns {@code k} distinct elements of the specified {@code int} array, selected at random
+     * as defined by the specified source of randomness. Elements are distinct by position, not
+     * by value.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param k
+     *            The amount of elements to select.
+     * @param array
+     *            The array to be selecting the elements from.
+     * @return The selected elements, in random order.
+     * @throws IllegalArgumentException
+     *             if k is negative or greater than the length of the array.
+     * @see #sampleIndices(RandomGenerator, int, int)
+     */
+    public static int[] sample(RandomGenerator random, int k, int... array) {
+	int[] result = sampleIndices(random, k, array.length);
+	for (int i = 0; i < k; i++)
+	    result[i] = array[result[i]];
+
+	return result;
+    }
+
+    /**
+     * Returns {@code k} distinct indices in the range {@code [0, n)}, selected at random as
+     * defined by the specified source of randomness. The indices are selected using Floyd's
+     * algorithm, which takes {@code O(k)} expected time and space regardless of {@code n}, and
+     * are then shuffled so that their order is random as well.
+     * <p>
+     * Should the set of selected indices that Floyd's algorithm needs be larger than {@code n},
+     * as is the case when {@code k} is close to {@code n}, the indices are instead selected by
+     * shuffling the first {@code k} of all {@code n} indices, which takes {@code O(n)} time and
+     * space.
+     * </p>
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param k
+     *            The amount of indices to select.
+     * @param n
+     *            The amount of indices to select from.
+     * @return The selected indices, in random order.
+     * @throws IllegalArgumentException
+     *             if k is negative or greater than n.
+     */
+    public static int[] sampleIndices(RandomGenerator random, int k, int n) {
+	if (k < 0 || k > n)
+	    throw new IllegalArgumentException("Cannot select " + k + " of " + n + " indices.");
+
+	int[] result = new int[k];
+	if (k == 0)
+	    return result;
+
+	long setLength = Long.highestOneBit(Math.max(k, 2) - 1) << 2;
+	if (setLength > n) {
+	    int[] indices = new int[n];
+	    for (int i = 0; i < n; i++)
+		indices[i] = i;
+
+	    for (int i = 0; i < k; i++) {
+		int j = i + random.nextInt(n - i);
+		result[i] = indices[j];
+		indices[j] = indices[i];
+	    }
+	    return result;
+	}
+
+	int[] selected = new int[(int) setLength];
+	for (int i = 0, j = n - k; j < n; i++, j++) {
+	    int index = random.nextInt(j + 1);
+	    if (!addIndex(selected, index)) {
+		index = j;
+		addIndex(selected, index);
+	    }
+	    result[i] = index;
+	}
+
+	shuffle(random, result, 0, k);
+	return result;
+    }
+
+    /**
+     * Adds the specified index to the specified open-addressing set of indices. The set stores
+     * each index incremented by one, so that {@code 0} denotes an empty slot, and must never be
+     * more than half full.
+     * 
+     * @param set
+     *            The set, whose length is a power of two.
+     * @param index
+     *            The non-negative index to add.
+     * @return {@code true} if the index was added, {@code false} if it was already present.
+     */
+    private static boolean addIndex(int[] set, int index) {
+	int mask = set.length - 1, value = index + 1;
+	int hash = index * 0x9E3779B9;
+	for (int slot = (hash ^ hash >>> 16) & mask;; slot = (slot + 1) & mask) {
+	    int current = set[slot];
+	    if (current == 0) {
+		set[slot] = value;
+		return true;
+	    } else if (current == value) {
+		return false;
+	    }
+	}
+    }
+
+    /**
+     * Fills the specified reservoir with elements selected at random from the specified
+     * source, as defined by the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param source
+     *            The source to be selecting the elements from, of any length.
+     * @param reservoir
+     *            The array that the selected elements are written to. Its length is the amount
+     *            of elements to select.
+     * @return The amount of elements written to the reservoir, which is less than its length
+     *         only if the source holds fewer elements.
+     * @see #reservoirSample(RandomGenerator, Iterable, Object[])
+     */
+    public static <T> int reservoirSample(Iterable<? extends T> source, T[] reservoir) {
+	return reservoirSample(RandomSources.current(), source, reservoir);
+    }
+
+    /**
+     * Fills the specified reservoir with elements selected at random from the specified
+     * source, as defined by the specified source of randomness. The source is iterated once,
+     * and need not be of known length. Each element of the source is equally likely to be
+     * selected.
+     * <p>
+     * Elements are selected using reservoir sampling with geometric skips (Li's "Algorithm
+     * L"), which draws {@code O(k * (1 + log(n / k)))} random numbers for {@code k} selected out
+     * of {@code n} elements, rather than one per element.
+     * </p>
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param source
+     *            The source to be selecting the elements from, of any length.
+     * @param reservoir
+     *            The array that the selected elements are written to. Its length is the amount
+     *            of elements to select.
+     * @return The amount of elements written to the reservoir, which is less than its length
+     *         only if the source holds fewer elements.
+     */
+    public static <T> int reservoirSample(RandomGenerator random, Iterable<? extends T> source, T[] reservoir) {
+	Iterator<? extends T> iterator = source.iterator();
+	int k = reservoir.length, count = 0;
+	while (count < k && iterator.hasNext())
+	    reservoir[count++] = iterator.next();
+	if (count < k || k == 0)
+	    return count;
+
+	double weight = reservoirWeight(random, k);
+	while (true) {
+	    for (long skip = reservoirSkip(random, weight); skip > 0; skip--) {
+		if (!iterator.hasNext())
+		    return k;
+		iterator.next();
+	    }
+	    if (!iterator.hasNext())
+		return k;
+
+	    reservoir[random.nextInt(k)] = iterator.next();
+	    weight *= reservoirWeight(random, k);
+	}
+    }
+
+    /**
+     * Fills the specified reservoir with {@code int} values selected at random from the
+     * specified iterator, as defined by the {@link RandomSources#current() current source of
+     * randomness}.
+     * 
+     * @param source
+     *            The iterator to be selecting the values from, of any length.
+     * @param reservoir
+     *            The array that the selected values are written to. Its length is the amount of
+     *            values to select.
+     * @return The amount of values written to the reservoir, which is less than its length only
+     *         if the iterator holds fewer values.
+     * @see #reservoirSample(RandomGenerator, PrimitiveIterator.OfInt, int[])
+     */
+    public static int reservoirSample(PrimitiveIterator.OfInt source, int[] reservoir) {
+	return reservoirSample(RandomSources.current(), source, reservoir);
+    }
+
+    /**
+     * Fills the specified reservoir with {@code int} values selected at random from the
+     * specified iterator, as defined by the specified source of randomness, as specified by
+     * {@link #reservoirSample(RandomGenerator, Iterable, Object[])}. No value is boxed.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param source
+     *            The iterator to be selecting the values from, of any length.
+     * @param reservoir
+     *            The array that the selected values are written to. Its length is the amount of
+     *            values to select.
+     * @return The amount of values written to the reservoir, which is less than its length only
+     *         if the iterator holds fewer values.
+     */
+    public static int reservoirSample(RandomGenerator random, PrimitiveIterator.OfInt source, int[] reservoir) {
+	int k = reservoir.length, count = 0;
+	while (count < k && source.hasNext())
+	    reservoir[count++] = source.nextInt();
+	if (count < k || k == 0)
+	    return count;
+
+	double weight = reservoirWeight(random, k);
+	while (true) {
+	    for (long skip = reservoirSkip(random, weight); skip > 0; skip--) {
+		if (!source.hasNext())
+		    return k;
+		source.nextInt();
+	    }
+	    if (!source.hasNext())
+		return k;
+
+	    reservoir[random.nextInt(k)] = source.nextInt();
+	    weight *= reservoirWeight(random, k);
+	}
+    }
+
+    /**
+     * Draws the factor by which the weight of a reservoir of the specified size shrinks after
+     * each replacement.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param k
+     *            The size of the reservoir.
+     * @return The factor, in the range {@code (0, 1]}.
+     */
+    private static double reservoirWeight(RandomGenerator random, int k) {
+	return Math.exp(Math.log(1 - random.nextDouble()) / k);
+    }
+
+    /**
+     * Draws the amount of elements to skip before the next replacement in a reservoir of the
+     * specified weight.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param weight
+     *            The weight of the reservoir.
+     * @return The amount of elements to skip.
+     */
+    private static long reservoirSkip(RandomGenerator random, double weight) {
+	return (long) Math.floor(Math.log(1 - random.nextDouble()) / Math.log1p(-weight));
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code T} in place, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static <T> void shuffle(T[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code T} in place, as defined by the
+     * specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static <T> void shuffle(RandomGenerator random, T[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code T} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static <T> void shuffle(RandomGenerator random, T[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    T element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code int} in place, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(int[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code int} in place, as defined by the
+     * specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, int[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code int} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, int[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    int element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code long} in place, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(long[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code long} in place, as defined by the
+     * specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, long[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code long} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, long[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    long element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code short} in place, as defined by
+     * the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(short[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code short} in place, as defined by
+     * the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, short[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code short} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, short[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    short element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code byte} in place, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(byte[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code byte} in place, as defined by the
+     * specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, byte[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code byte} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, byte[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    byte element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code char} in place, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(char[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code char} in place, as defined by the
+     * specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, char[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code char} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, char[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    char element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code float} in place, as defined by
+     * the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(float[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code float} in place, as defined by
+     * the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, float[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code float} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, float[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    float element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code double} in place, as defined by
+     * the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(double[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code double} in place, as defined by
+     * the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, double[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code double} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, double[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    double element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code boolean} in place, as defined by
+     * the {@link RandomSources#current() current source of randomness}.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     */
+    public static void shuffle(boolean[] array) {
+	shuffle(RandomSources.current(), array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the elements of the specified array of type {@code boolean} in place, as defined by
+     * the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if random is {@code null} and the array holds more than one element.
+     */
+    public static void shuffle(RandomGenerator random, boolean[] array) {
+	shuffle(random, array, 0, array.length);
+    }
+
+    /**
+     * Shuffles the specified range of elements of the specified array of type {@code boolean} in
+     * place, as defined by the specified source of randomness. Every permutation of the range is
+     * equally likely, provided the source of randomness is uniform.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @throws NullPointerException
+     *             if random is {@code null} and the range holds more than one element.
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the bounds of the array.
+     */
+    public static void shuffle(RandomGenerator random, boolean[] array, int fromIndex, int toIndex) {
+	Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+	for (int i = toIndex - 1; i > fromIndex; i--) {
+	    int other = fromIndex + random.nextInt(i - fromIndex + 1);
+	    boolean element = array[i];
+	    array[i] = array[other];
+	    array[other] = element;
+	}
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code T} in place,
+     * as defined by the {@link RandomSources#current() current source of randomness} of the
+     * calling thread. Whether the shuffle is executed in the
+     * {@link ForkJoinPool#commonPool() common pool} or on the calling thread only affects how
+     * fast it completes, not the resulting permutation, so seeded sources remain replayable.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, Object[])
+     */
+    public static <T> void parallelShuffle(T[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.SHUFFLE, array.length, pool);
+	parallelShuffle(pool, minSplitSize, RandomSources.current(), array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code T} in place,
+     * as defined by the specified source of randomness.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, Object[])
+     */
+    public static <T> void parallelShuffle(ForkJoinPool pool, RandomGenerator random, T[] array) {
+	parallelShuffle(pool, ShufflePlan.MIN_BUCKET_SIZE, random, array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code T} in place,
+     * as defined by the specified source of randomness. The indices of the array are scattered
+     * across randomly selected buckets, each of which is then shuffled independently, such that
+     * every permutation remains equally likely. The amount of buckets depends on the length of
+     * the array alone, and the source of randomness is only used on the calling thread, to seed
+     * the sources of the individual buckets, so a seeded source yields the same permutation
+     * regardless of the pool, its parallelism, and the minimum split size.
+     * <p>
+     * Arrays of fewer than 8192 elements are shuffled sequentially, without
+     * allocating. Longer arrays require a copy of the array and an {@code int} per element.
+     * </p>
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Arrays no longer than this are shuffled on the calling thread.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    public static <T> void parallelShuffle(ForkJoinPool pool, int minSplitSize, RandomGenerator random, T[] array) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int length = array.length, buckets = ShufflePlan.buckets(length);
+	if (buckets == 1) {
+	    shuffle(random, array, 0, length);
+	    return;
+	}
+
+	ShufflePlan plan = ShufflePlan.create(pool, minSplitSize, random, length, buckets);
+	int[] targets = plan.targets();
+	T[] scratch = array.clone();
+	ArrayTasks.forEach(pool, Math.max(minSplitSize, ShufflePlan.MIN_BUCKET_SIZE), 0, length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		scratch[targets[i]] = array[i];
+	});
+	ArrayTasks.forEach(pool, ShufflePlan.bucketSplitSize(minSplitSize), 0, buckets, (from, to) -> {
+	    for (int bucket = from; bucket < to; bucket++) {
+		int start = plan.start(bucket), end = plan.end(bucket);
+		shuffle(plan.random(bucket), scratch, start, end);
+		System.arraycopy(scratch, start, array, start, end - start);
+	    }
+	});
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code int} in place,
+     * as defined by the {@link RandomSources#current() current source of randomness} of the
+     * calling thread. Whether the shuffle is executed in the
+     * {@link ForkJoinPool#commonPool() common pool} or on the calling thread only affects how
+     * fast it completes, not the resulting permutation, so seeded sources remain replayable.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, int[])
+     */
+    public static void parallelShuffle(int[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.SHUFFLE, array.length, pool);
+	parallelShuffle(pool, minSplitSize, RandomSources.current(), array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code int} in place,
+     * as defined by the specified source of randomness.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, int[])
+     */
+    public static void parallelShuffle(ForkJoinPool pool, RandomGenerator random, int[] array) {
+	parallelShuffle(pool, ShufflePlan.MIN_BUCKET_SIZE, random, array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code int} in place,
+     * as defined by the specified source of randomness. The indices of the array are scattered
+     * across randomly selected buckets, each of which is then shuffled independently, such that
+     * every permutation remains equally likely. The amount of buckets depends on the length of
+     * the array alone, and the source of randomness is only used on the calling thread, to seed
+     * the sources of the individual buckets, so a seeded source yields the same permutation
+     * regardless of the pool, its parallelism, and the minimum split size.
+     * <p>
+     * Arrays of fewer than 8192 elements are shuffled sequentially, without
+     * allocating. Longer arrays require a copy of the array and an {@code int} per element.
+     * </p>
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Arrays no longer than this are shuffled on the calling thread.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    public static void parallelShuffle(ForkJoinPool pool, int minSplitSize, RandomGenerator random, int[] array) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int length = array.length, buckets = ShufflePlan.buckets(length);
+	if (buckets == 1) {
+	    shuffle(random, array, 0, length);
+	    return;
+	}
+
+	ShufflePlan plan = ShufflePlan.create(pool, minSplitSize, random, length, buckets);
+	int[] targets = plan.targets();
+	int[] scratch = array.clone();
+	ArrayTasks.forEach(pool, Math.max(minSplitSize, ShufflePlan.MIN_BUCKET_SIZE), 0, length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		scratch[targets[i]] = array[i];
+	});
+	ArrayTasks.forEach(pool, ShufflePlan.bucketSplitSize(minSplitSize), 0, buckets, (from, to) -> {
+	    for (int bucket = from; bucket < to; bucket++) {
+		int start = plan.start(bucket), end = plan.end(bucket);
+		shuffle(plan.random(bucket), scratch, start, end);
+		System.arraycopy(scratch, start, array, start, end - start);
+	    }
+	});
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code long} in place,
+     * as defined by the {@link RandomSources#current() current source of randomness} of the
+     * calling thread. Whether the shuffle is executed in the
+     * {@link ForkJoinPool#commonPool() common pool} or on the calling thread only affects how
+     * fast it completes, not the resulting permutation, so seeded sources remain replayable.
+     * 
+     * @param array
+     *            The array to be shuffled.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, long[])
+     */
+    public static void parallelShuffle(long[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.SHUFFLE, array.length, pool);
+	parallelShuffle(pool, minSplitSize, RandomSources.current(), array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code long} in place,
+     * as defined by the specified source of randomness.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @see #parallelShuffle(ForkJoinPool, int, RandomGenerator, long[])
+     */
+    public static void parallelShuffle(ForkJoinPool pool, RandomGenerator random, long[] array) {
+	parallelShuffle(pool, ShufflePlan.MIN_BUCKET_SIZE, random, array);
+    }
+
+    /**
+     * Shuffles, in parallel, the elements of the specified array of type {@code long} in place,
+     * as defined by the specified source of randomness. The indices of the array are scattered
+     * across randomly selected buckets, each of which is then shuffled independently, such that
+     * every permutation remains equally likely. The amount of buckets depends on the length of
+     * the array alone, and the source of randomness is only used on the calling thread, to seed
+     * the sources of the individual buckets, so a seeded source yields the same permutation
+     * regardless of the pool, its parallelism, and the minimum split size.
+     * <p>
+     * Arrays of fewer than 8192 elements are shuffled sequentially, without
+     * allocating. Longer arrays require a copy of the array and an {@code int} per element.
+     * </p>
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are processed sequentially by a single
+     *            worker. Arrays no longer than this are shuffled on the calling thread.
+     * @param random
+     *            The source of randomness.
+     * @param array
+     *            The array to be shuffled.
+     * @throws NullPointerException
+     *             if pool is {@code null}, or random is {@code null} and the array holds
+     *             more than one element.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    public static void parallelShuffle(ForkJoinPool pool, int minSplitSize, RandomGenerator random, long[] array) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int length = array.length, buckets = ShufflePlan.buckets(length);
+	if (buckets == 1) {
+	    shuffle(random, array, 0, length);
+	    return;
+	}
+
+	ShufflePlan plan = ShufflePlan.create(pool, minSplitSize, random, length, buckets);
+	int[] targets = plan.targets();
+	long[] scratch = array.clone();
+	ArrayTasks.forEach(pool, Math.max(minSplitSize, ShufflePlan.MIN_BUCKET_SIZE), 0, length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		scratch[targets[i]] = array[i];
+	});
+	ArrayTasks.forEach(pool, ShufflePlan.bucketSplitSize(minSplitSize), 0, buckets, (from, to) -> {
+	    for (int bucket = from; bucket < to; bucket++) {
+		int start = plan.start(bucket), end = plan.end(bucket);
+		shuffle(plan.random(bucket), scratch, start, end);
+		System.arraycopy(scratch, start, array, start, end - start);
+	    }
+	});
+    }
+
+    /**
+     * Concatenates all arrays of type {@code T} to a single one, using the system's array
+     * copying functionality. Changes made to any of the source arrays will never be reflected
+     * in the returned one, or vice versa.
+     * 
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return A concatenation of all arrays.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <T> T[] concat(T[]... arrays) {
+	int length = arrays.length;
+	if (length == 0)
+	    return (T[]) new Object[0];
+	else if (length == 1)
+	    return arrays[0].clone();
+
+	length = length(arrays);
+	Class<?> type = arrays.getClass().getComponentType().getComponentType();
+	final T[] result = (T[]) newInstance(type, length);
+	int offset = 0;
+	for (T[] array : arrays) {
+	    int len = array.length;
+
+	    if (len == 0)
 		continue;
 	    if (len == 1) {
 		result[offset++] = array[0];
 		continue;
 	    }
 
-	    arraycopy(array, 0, result, offset, len);
-	    offset += len;
+	    arraycopy(array, 0, result, offset, len);
+	    offset += len;
+	}
+	return result;
+    }
+
+    /**
+     * Concatenates all arrays of type {@code T} into the specified destination array, starting
+     * at the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     * @throws ArrayStoreException
+     *             if an element cannot be stored in the destination array.
+     */
+    @SafeVarargs
+    public static <T> int concatInto(T[] dest, int destPos, T[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (T[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all arrays of type {@code T} into the specified buffer, if it is large
+     * enough, or into a newly allocated array of the buffer's component type otherwise. In the
+     * spirit of {@link java.util.Collection#toArray(Object[])}, if the buffer is longer than the
+     * concatenation, the element directly following the concatenation is set to {@code null}.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     * @throws ArrayStoreException
+     *             if an element cannot be stored in the buffer's component type.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <T> T[] concatReusing(T[] buffer, T[]... arrays) {
+	int length = length(arrays);
+	T[] result = (buffer.length >= length) ? buffer : (T[]) newInstance(buffer.getClass().getComponentType(), length);
+
+	concatInto(result, 0, arrays);
+	if (result.length > length)
+	    result[length] = null;
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    @SafeVarargs
+    private static <T> int length(T[]... arrays) {
+	int length = 0;
+	for (T[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code int} arrays to a single one, using the system's array copying
+     * functionality. Changes made to any of the source arrays will never be reflected in the
+     * returned one, or vice versa.
+     * <p>
+     * At least one array is required, so that a call without arguments is not ambiguous
+     * between the overloads of this method.
+     * </p>
+     * 
+     * @param first
+     *            The first array.
+     * @param rest
+     *            The arrays that are to be concatenated to the first.
+     * @return A concatenation of all arrays.
+     */
+    public static int[] concat(int[] first, int[]... rest) {
+	if (rest.length == 0)
+	    return first.clone();
+
+	int[] result = new int[first.length + length(rest)];
+	arraycopy(first, 0, result, 0, first.length);
+	concatInto(result, first.length, rest);
+	return result;
+    }
+
+    /**
+     * Concatenates all {@code int} arrays into the specified destination array, starting at
+     * the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    public static int concatInto(int[] dest, int destPos, int[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (int[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code int} arrays into the specified buffer, if it is large enough, or
+     * into a newly allocated array otherwise. If the buffer is reused, the elements following
+     * the concatenation are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     */
+    public static int[] concatReusing(int[] buffer, int[]... arrays) {
+	int length = length(arrays);
+	int[] result = (buffer.length >= length) ? buffer : new int[length];
+
+	concatInto(result, 0, arrays);
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified {@code int} arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    private static int length(int[]... arrays) {
+	int length = 0;
+	for (int[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code long} arrays to a single one, using the system's array copying
+     * functionality. Changes made to any of the source arrays will never be reflected in the
+     * returned one, or vice versa.
+     * <p>
+     * At least one array is required, so that a call without arguments is not ambiguous
+     * between the overloads of this method.
+     * </p>
+     * 
+     * @param first
+     *            The first array.
+     * @param rest
+     *            The arrays that are to be concatenated to the first.
+     * @return A concatenation of all arrays.
+     */
+    public static long[] concat(long[] first, long[]... rest) {
+	if (rest.length == 0)
+	    return first.clone();
+
+	long[] result = new long[first.length + length(rest)];
+	arraycopy(first, 0, result, 0, first.length);
+	concatInto(result, first.length, rest);
+	return result;
+    }
+
+    /**
+     * Concatenates all {@code long} arrays into the specified destination array, starting at
+     * the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    public static int concatInto(long[] dest, int destPos, long[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (long[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code long} arrays into the specified buffer, if it is large enough, or
+     * into a newly allocated array otherwise. If the buffer is reused, the elements following
+     * the concatenation are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     */
+    public static long[] concatReusing(long[] buffer, long[]... arrays) {
+	int length = length(arrays);
+	long[] result = (buffer.length >= length) ? buffer : new long[length];
+
+	concatInto(result, 0, arrays);
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified {@code long} arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    private static int length(long[]... arrays) {
+	int length = 0;
+	for (long[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code byte} arrays to a single one, using the system's array copying
+     * functionality. Changes made to any of the source arrays will never be reflected in the
+     * returned one, or vice versa.
+     * <p>
+     * At least one array is required, so that a call without arguments is not ambiguous
+     * between the overloads of this method.
+     * </p>
+     * 
+     * @param first
+     *            The first array.
+     * @param rest
+     *            The arrays that are to be concatenated to the first.
+     * @return A concatenation of all arrays.
+     */
+    public static byte[] concat(byte[] first, byte[]... rest) {
+	if (rest.length == 0)
+	    return first.clone();
+
+	byte[] result = new byte[first.length + length(rest)];
+	arraycopy(first, 0, result, 0, first.length);
+	concatInto(result, first.length, rest);
+	return result;
+    }
+
+    /**
+     * Concatenates all {@code byte} arrays into the specified destination array, starting at
+     * the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    public static int concatInto(byte[] dest, int destPos, byte[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (byte[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code byte} arrays into the specified buffer, if it is large enough, or
+     * into a newly allocated array otherwise. If the buffer is reused, the elements following
+     * the concatenation are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     */
+    public static byte[] concatReusing(byte[] buffer, byte[]... arrays) {
+	int length = length(arrays);
+	byte[] result = (buffer.length >= length) ? buffer : new byte[length];
+
+	concatInto(result, 0, arrays);
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified {@code byte} arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    private static int length(byte[]... arrays) {
+	int length = 0;
+	for (byte[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code short} arrays to a single one, using the system's array copying
+     * functionality. Changes made to any of the source arrays will never be reflected in the
+     * returned one, or vice versa.
+     * <p>
+     * At least one array is required, so that a call without arguments is not ambiguous
+     * between the overloads of this method.
+     * </p>
+     * 
+     * @param first
+     *            The first array.
+     * @param rest
+     *            The arrays that are to be concatenated to the first.
+     * @return A concatenation of all arrays.
+     */
+    public static short[] concat(short[] first, short[]... rest) {
+	if (rest.length == 0)
+	    return first.clone();
+
+	short[] result = new short[first.length + length(rest)];
+	arraycopy(first, 0, result, 0, first.length);
+	concatInto(result, first.length, rest);
+	return result;
+    }
+
+    /**
+     * Concatenates all {@code short} arrays into the specified destination array, starting at
+     * the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    public static int concatInto(short[] dest, int destPos, short[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (short[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code short} arrays into the specified buffer, if it is large enough, or
+     * into a newly allocated array otherwise. If the buffer is reused, the elements following
+     * the concatenation are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     */
+    public static short[] concatReusing(short[] buffer, short[]... arrays) {
+	int length = length(arrays);
+	short[] result = (buffer.length >= length) ? buffer : new short[length];
+
+	concatInto(result, 0, arrays);
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified {@code short} arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    private static int length(short[]... arrays) {
+	int length = 0;
+	for (short[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code double} arrays to a single one, using the system's array copying
+     * functionality. Changes made to any of the source arrays will never be reflected in the
+     * returned one, or vice versa.
+     * <p>
+     * At least one array is required, so that a call without arguments is not ambiguous
+     * between the overloads of this method.
+     * </p>
+     * 
+     * @param first
+     *            The first array.
+     * @param rest
+     *            The arrays that are to be concatenated to the first.
+     * @return A concatenation of all arrays.
+     */
+    public static double[] concat(double[] first, double[]... rest) {
+	if (rest.length == 0)
+	    return first.clone();
+
+	double[] result = new double[first.length + length(rest)];
+	arraycopy(first, 0, result, 0, first.length);
+	concatInto(result, first.length, rest);
+	return result;
+    }
+
+    /**
+     * Concatenates all {@code double} arrays into the specified destination array, starting at
+     * the specified position. No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The amount of elements written to the destination array.
+     * @throws IndexOutOfBoundsException
+     *             if the concatenation does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    public static int concatInto(double[] dest, int destPos, double[]... arrays) {
+	int length = length(arrays);
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+
+	int offset = destPos;
+	for (double[] array : arrays) {
+	    int len = array.length;
+	    arraycopy(array, 0, dest, offset, len);
+	    offset += len;
+	}
+	return length;
+    }
+
+    /**
+     * Concatenates all {@code double} arrays into the specified buffer, if it is large enough, or
+     * into a newly allocated array otherwise. If the buffer is reused, the elements following
+     * the concatenation are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param arrays
+     *            The arrays that are to be concatenated.
+     * @return The buffer, or the newly allocated array, starting with the concatenation of all
+     *         arrays.
+     */
+    public static double[] concatReusing(double[] buffer, double[]... arrays) {
+	int length = length(arrays);
+	double[] result = (buffer.length >= length) ? buffer : new double[length];
+
+	concatInto(result, 0, arrays);
+	return result;
+    }
+
+    /**
+     * Returns the total length of the specified {@code double} arrays.
+     * 
+     * @param arrays
+     *            The arrays.
+     * @return The sum of the lengths of the arrays.
+     */
+    private static int length(double[]... arrays) {
+	int length = 0;
+	for (double[] array : arrays)
+	    length += array.length;
+
+	return length;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert the specified array of type {@code S} to
+     * a primitive-{@code int} array.
+     * 
+     * @param converter
+     *            The function that converts the element types.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @see #convertToInt(ToIntFunction, Object...)
+     */
+    @SafeVarargs
+    public static <S> int[] convert(Function<S, Integer> converter, S... array) {
+	int length = array.length;
+	int[] result = new int[length];
+
+	if (length == 0)
+	    return result;
+	if (length == 1) {
+	    result[0] = converter.apply(array[0]);
+	    return result;
+	}
+
+	for (int i = 0; i < length; i++)
+	    result[i] = converter.apply(array[i]);
+
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToIntFunction} to convert the specified array of type {@code S} to
+     * a primitive-{@code int} array, without boxing any of the converted values.
+     * 
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> int[] convertToInt(ToIntFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	int[] result = new int[length];
+	for (int i = 0; i < length; i++)
+	    result[i] = converter.applyAsInt(array[i]);
+
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToIntFunction} to convert the specified array of type {@code S} into
+     * the specified primitive-{@code int} destination array, starting at the specified position.
+     * No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The amount of elements written to the destination array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the converted array does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    @SafeVarargs
+    public static <S> int convertInto(int[] dest, int destPos, ToIntFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+	for (int i = 0; i < length; i++)
+	    dest[destPos + i] = converter.applyAsInt(array[i]);
+
+	return length;
+    }
+
+    /**
+     * Uses the specified {@link ToIntFunction} to convert the specified array of type {@code S} into
+     * the specified buffer, if it is large enough, or into a newly allocated array otherwise. If
+     * the buffer is reused, the elements following the converted ones are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The buffer, or the newly allocated array, starting with the converted elements.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> int[] convertReusing(int[] buffer, ToIntFunction<? super S> converter, S... array) {
+	int[] result = (buffer.length >= array.length) ? buffer : new int[array.length];
+	convertInto(result, 0, converter, array);
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToIntFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code int} array, without boxing any of the converted values.
+     * The array is split across the {@link ForkJoinPool#commonPool() common pool}; arrays that
+     * are too small to benefit are converted on the calling thread.
+     * 
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> int[] parallelConvertToInt(ToIntFunction<? super S> converter, S... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.CONVERT, array.length, pool);
+	return parallelConvertToInt(pool, minSplitSize, converter, array);
+    }
+
+    /**
+     * Uses the specified {@link ToIntFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code int} array, without boxing any of the converted values.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are converted sequentially by a single
+     *            worker. Arrays no longer than this are converted on the calling thread.
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if pool or converter is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <S> int[] parallelConvertToInt(ForkJoinPool pool, int minSplitSize, ToIntFunction<? super S> converter,
+	    S... array) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(converter);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int[] result = new int[array.length];
+	ArrayTasks.forEach(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		result[i] = converter.applyAsInt(array[i]);
+	});
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToLongFunction} to convert the specified array of type {@code S} to
+     * a primitive-{@code long} array, without boxing any of the converted values.
+     * 
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> long[] convertToLong(ToLongFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	long[] result = new long[length];
+	for (int i = 0; i < length; i++)
+	    result[i] = converter.applyAsLong(array[i]);
+
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToLongFunction} to convert the specified array of type {@code S} into
+     * the specified primitive-{@code long} destination array, starting at the specified position.
+     * No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The amount of elements written to the destination array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the converted array does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    @SafeVarargs
+    public static <S> int convertInto(long[] dest, int destPos, ToLongFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+	for (int i = 0; i < length; i++)
+	    dest[destPos + i] = converter.applyAsLong(array[i]);
+
+	return length;
+    }
+
+    /**
+     * Uses the specified {@link ToLongFunction} to convert the specified array of type {@code S} into
+     * the specified buffer, if it is large enough, or into a newly allocated array otherwise. If
+     * the buffer is reused, the elements following the converted ones are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The buffer, or the newly allocated array, starting with the converted elements.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> long[] convertReusing(long[] buffer, ToLongFunction<? super S> converter, S... array) {
+	long[] result = (buffer.length >= array.length) ? buffer : new long[array.length];
+	convertInto(result, 0, converter, array);
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToLongFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code long} array, without boxing any of the converted values.
+     * The array is split across the {@link ForkJoinPool#commonPool() common pool}; arrays that
+     * are too small to benefit are converted on the calling thread.
+     * 
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> long[] parallelConvertToLong(ToLongFunction<? super S> converter, S... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.CONVERT, array.length, pool);
+	return parallelConvertToLong(pool, minSplitSize, converter, array);
+    }
+
+    /**
+     * Uses the specified {@link ToLongFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code long} array, without boxing any of the converted values.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are converted sequentially by a single
+     *            worker. Arrays no longer than this are converted on the calling thread.
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if pool or converter is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <S> long[] parallelConvertToLong(ForkJoinPool pool, int minSplitSize, ToLongFunction<? super S> converter,
+	    S... array) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(converter);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	long[] result = new long[array.length];
+	ArrayTasks.forEach(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		result[i] = converter.applyAsLong(array[i]);
+	});
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToDoubleFunction} to convert the specified array of type {@code S} to
+     * a primitive-{@code double} array, without boxing any of the converted values.
+     * 
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> double[] convertToDouble(ToDoubleFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	double[] result = new double[length];
+	for (int i = 0; i < length; i++)
+	    result[i] = converter.applyAsDouble(array[i]);
+
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToDoubleFunction} to convert the specified array of type {@code S} into
+     * the specified primitive-{@code double} destination array, starting at the specified position.
+     * No array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The amount of elements written to the destination array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the converted array does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    @SafeVarargs
+    public static <S> int convertInto(double[] dest, int destPos, ToDoubleFunction<? super S> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+	for (int i = 0; i < length; i++)
+	    dest[destPos + i] = converter.applyAsDouble(array[i]);
+
+	return length;
+    }
+
+    /**
+     * Uses the specified {@link ToDoubleFunction} to convert the specified array of type {@code S} into
+     * the specified buffer, if it is large enough, or into a newly allocated array otherwise. If
+     * the buffer is reused, the elements following the converted ones are left unaltered.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param converter
+     *            The function that converts the elements.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The buffer, or the newly allocated array, starting with the converted elements.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> double[] convertReusing(double[] buffer, ToDoubleFunction<? super S> converter, S... array) {
+	double[] result = (buffer.length >= array.length) ? buffer : new double[array.length];
+	convertInto(result, 0, converter, array);
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link ToDoubleFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code double} array, without boxing any of the converted values.
+     * The array is split across the {@link ForkJoinPool#commonPool() common pool}; arrays that
+     * are too small to benefit are converted on the calling thread.
+     * 
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S> double[] parallelConvertToDouble(ToDoubleFunction<? super S> converter, S... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.CONVERT, array.length, pool);
+	return parallelConvertToDouble(pool, minSplitSize, converter, array);
+    }
+
+    /**
+     * Uses the specified {@link ToDoubleFunction} to convert, in parallel, the specified array of type
+     * {@code S} to a primitive-{@code double} array, without boxing any of the converted values.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are converted sequentially by a single
+     *            worker. Arrays no longer than this are converted on the calling thread.
+     * @param converter
+     *            The function that converts the elements. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if pool or converter is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <S> double[] parallelConvertToDouble(ForkJoinPool pool, int minSplitSize, ToDoubleFunction<? super S> converter,
+	    S... array) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(converter);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	double[] result = new double[array.length];
+	ArrayTasks.forEach(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		result[i] = converter.applyAsDouble(array[i]);
+	});
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert the specified array of type {@code S} to
+     * an array of type {@code D}.
+     * 
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <S, D> D[] convert(Class<D> type, Function<S, D> converter, S... array) {
+	int length = array.length;
+	D[] result = (D[]) newInstance(type, length);
+
+	if (length == 0)
+	    return result;
+	if (length == 1) {
+	    result[0] = converter.apply(array[0]);
+	    return result;
+	}
+
+	for (int i = 0; i < length; i++)
+	    result[i] = converter.apply(array[i]);
+
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert the specified array of type {@code S} into
+     * the specified destination array of type {@code D}, starting at the specified position. No
+     * array is allocated by this method.
+     * 
+     * @param dest
+     *            The destination array.
+     * @param destPos
+     *            The destination starting position.
+     * @param converter
+     *            The function that converts the element types.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The amount of elements written to the destination array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the converted array does not fit in the destination array at the specified
+     *             position, in which case the destination array is left unaltered.
+     */
+    @SafeVarargs
+    public static <S, D> int convertInto(D[] dest, int destPos, Function<? super S, ? extends D> converter, S... array) {
+	Objects.requireNonNull(converter);
+
+	int length = array.length;
+	Objects.checkFromIndexSize(destPos, length, dest.length);
+	for (int i = 0; i < length; i++)
+	    dest[destPos + i] = converter.apply(array[i]);
+
+	return length;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert the specified array of type {@code S} into
+     * the specified buffer, if it is large enough, or into a newly allocated array of the
+     * buffer's component type otherwise. In the spirit of
+     * {@link java.util.Collection#toArray(Object[])}, if the buffer is longer than the converted
+     * array, the element directly following the converted elements is set to {@code null}.
+     * 
+     * @param buffer
+     *            The array that is reused if it is large enough.
+     * @param converter
+     *            The function that converts the element types.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The buffer, or the newly allocated array, starting with the converted elements.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <S, D> D[] convertReusing(D[] buffer, Function<? super S, ? extends D> converter, S... array) {
+	int length = array.length;
+	D[] result = (buffer.length >= length) ? buffer : (D[]) newInstance(buffer.getClass().getComponentType(), length);
+
+	convertInto(result, 0, converter, array);
+	if (result.length > length)
+	    result[length] = null;
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert, in parallel, the specified array of type
+     * {@code S} to an array of type {@code D}. Each worker writes its converted elements
+     * directly into the returned array. The array is split across the
+     * {@link ForkJoinPool#commonPool() common pool}; arrays that are too small to benefit, or
+     * machines with a single core, convert on the calling thread.
+     * 
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S, D> D[] parallelConvert(Class<D> type, Function<? super S, ? extends D> converter, S... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.CONVERT, array.length, pool);
+	return parallelConvert(pool, minSplitSize, type, converter, array);
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert, in parallel, the specified array of type
+     * {@code S} to an array of type {@code D}. Each worker writes its converted elements
+     * directly into the returned array.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are converted sequentially by a single
+     *            worker. Arrays no longer than this, or pools with a parallelism of one,
+     *            convert on the calling thread.
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types. It may be invoked concurrently.
+     * @param array
+     *            The array that needs to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if pool or converter is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <S, D> D[] parallelConvert(ForkJoinPool pool, int minSplitSize, Class<D> type,
+	    Function<? super S, ? extends D> converter, S... array) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(converter);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	D[] result = (D[]) newInstance(type, array.length);
+	ArrayTasks.forEach(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    for (int i = from; i < to; i++)
+		result[i] = converter.apply(array[i]);
+	});
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert the specified arrays of type {@code S} to
+     * a single array of type {@code D}. The converted elements of each array occupy a
+     * contiguous slice of the returned array, in the order in which the arrays are specified.
+     * 
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types.
+     * @param arrays
+     *            The arrays that need to be converted.
+     * @return The converted array.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <S, D> D[] convert(Class<D> type, Function<S, D> converter, S[]... arrays) {
+	if (arrays.length == 1)
+	    return convert(type, converter, arrays[0]);
+
+	D[] result = (D[]) newInstance(type, length(arrays));
+	int offset = 0;
+	for (S[] array : arrays) {
+	    for (S element : array)
+		result[offset++] = converter.apply(element);
+	}
+	return result;
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert, in parallel, the specified arrays of type
+     * {@code S} to a single array of type {@code D}. The converted elements of each array
+     * occupy a contiguous slice of the returned array, in the order in which the arrays are
+     * specified. The arrays are split across the {@link ForkJoinPool#commonPool() common pool}
+     * by their total length, so that large and small arrays are balanced across the workers.
+     * 
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types. It may be invoked concurrently.
+     * @param arrays
+     *            The arrays that need to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if converter is {@code null}.
+     */
+    @SafeVarargs
+    public static <S, D> D[] parallelConvert(Class<D> type, Function<? super S, ? extends D> converter, S[]... arrays) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.CONVERT, length(arrays), pool);
+	return parallelConvert(pool, minSplitSize, type, converter, arrays);
+    }
+
+    /**
+     * Uses the specified {@link Function} to convert, in parallel, the specified arrays of type
+     * {@code S} to a single array of type {@code D}. The converted elements of each array
+     * occupy a contiguous slice of the returned array, in the order in which the arrays are
+     * specified. The arrays are split across the pool by their total length, so that large and
+     * small arrays are balanced across the workers.
+     * 
+     * @param pool
+     *            The pool that the arrays are split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are converted sequentially by a single
+     *            worker. Arrays with a total length no longer than this, or pools with a
+     *            parallelism of one, convert on the calling thread.
+     * @param type
+     *            The class type of the destination element type.
+     * @param converter
+     *            The function that converts the element types. It may be invoked concurrently.
+     * @param arrays
+     *            The arrays that need to be converted.
+     * @return The converted array.
+     * @throws NullPointerException
+     *             if pool or converter is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    @SafeVarargs
+    public static <S, D> D[] parallelConvert(ForkJoinPool pool, int minSplitSize, Class<D> type,
+	    Function<? super S, ? extends D> converter, S[]... arrays) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(converter);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int count = arrays.length;
+	int[] offsets = new int[count + 1];
+	for (int i = 0; i < count; i++)
+	    offsets[i + 1] = offsets[i] + arrays[i].length;
+
+	D[] result = (D[]) newInstance(type, offsets[count]);
+	ArrayTasks.forEach(pool, minSplitSize, 0, offsets[count], (from, to) -> {
+	    int index = from;
+	    for (int slice = sliceOf(offsets, from); index < to; slice++) {
+		S[] array = arrays[slice];
+		int base = offsets[slice], end = Math.min(to, offsets[slice + 1]);
+
+		for (; index < end; index++)
+		    result[index] = converter.apply(array[index - base]);
+	    }
+	});
+	return result;
+    }
+
+    /**
+     * Returns the slice that contains the specified index of a flattened array, given the
+     * offsets of each slice. Empty slices never contain an index.
+     * 
+     * @param offsets
+     *            The offsets of the slices, followed by the total length.
+     * @param index
+     *            The index within the flattened array.
+     * @return The slice that contains the index.
+     */
+    private static int sliceOf(int[] offsets, int index) {
+	int low = 0, high = offsets.length - 2;
+	while (low < high) {
+	    int middle = (low + high + 1) >>> 1;
+	    if (offsets[middle] <= index)
+		low = middle;
+	    else
+		high = middle - 1;
+	}
+	return low;
+    }
+
+    /**
+     * Concatenates the specified array into a single string, using the specified string as
+     * delimiter. The values of the array as obtained as specified by
+     * {@link String#valueOf(Object)}.
+     * 
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be concatenated.
+     * @return The resulting string.
+     */
+    public static <T> String toString(String delimiter, T[] array) {
+	int length = array.length;
+	switch (length) {
+	case 0:
+	    return "";
+	case 1:
+	    return valueOf(array[0]);
+	default:
+	    String first = valueOf(array[0]);
+	    int delimiterLength = (delimiter == null) ? 0 : delimiter.length();
+	    StringBuilder sb = new StringBuilder((first.length() + delimiterLength) * length);
+
+	    sb.append(first);
+	    for (int i = 1; i < length; i++) {
+		if (delimiter != null)
+		    sb.append(delimiter);
+		sb.append(array[i]);
+	    }
+	    return sb.toString();
+	}
+    }
+
+    /**
+     * Concatenates the specified array into a single string, using the specified string as
+     * delimiter. The values of the array as obtained as specified by
+     * {@link String#valueOf(Object)}.
+     * 
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be concatenated.
+     * @return The resulting string.
+     */
+    public static String toString(String delimiter, int[] array) {
+	switch (array.length) {
+	case 0:
+	    return "";
+	case 1:
+	    return valueOf(array[0]);
+	default:
+	    return appendTo(new StringBuilder(stringSize(delimiter, array)), delimiter, array).toString();
+	}
+    }
+
+    /**
+     * Concatenates the specified array into a single string, using the specified string as
+     * delimiter. The values of the array as obtained as specified by
+     * {@link String#valueOf(Object)}.
+     * 
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be concatenated.
+     * @return The resulting string.
+     */
+    public static String toString(String delimiter, long[] array) {
+	switch (array.length) {
+	case 0:
+	    return "";
+	case 1:
+	    return valueOf(array[0]);
+	default:
+	    return appendTo(new StringBuilder(stringSize(delimiter, array)), delimiter, array).toString();
+	}
+    }
+
+    /**
+     * Appends the specified array to the specified {@link StringBuilder}, using the specified
+     * string as delimiter. The values of the array are appended as specified by
+     * {@link StringBuilder#append(Object)}, without creating intermediate strings.
+     * 
+     * @param sb
+     *            The builder to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified builder.
+     */
+    public static <T> StringBuilder appendTo(StringBuilder sb, String delimiter, T[] array) {
+	int length = array.length;
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		sb.append(delimiter);
+	    sb.append(array[i]);
+	}
+	return sb;
+    }
+
+    /**
+     * Appends the specified array to the specified {@link StringBuilder}, using the specified
+     * string as delimiter. The values of the array are appended as specified by
+     * {@link StringBuilder#append(int)}, without creating intermediate strings. The builder is
+     * grown at most once.
+     * 
+     * @param sb
+     *            The builder to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified builder.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, String delimiter, int[] array) {
+	int length = array.length;
+	sb.ensureCapacity(sb.length() + stringSize(delimiter, array));
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		sb.append(delimiter);
+	    sb.append(array[i]);
+	}
+	return sb;
+    }
+
+    /**
+     * Appends the specified array to the specified {@link StringBuilder}, using the specified
+     * string as delimiter. The values of the array are appended as specified by
+     * {@link StringBuilder#append(long)}, without creating intermediate strings. The builder is
+     * grown at most once.
+     * 
+     * @param sb
+     *            The builder to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified builder.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, String delimiter, long[] array) {
+	int length = array.length;
+	sb.ensureCapacity(sb.length() + stringSize(delimiter, array));
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		sb.append(delimiter);
+	    sb.append(array[i]);
+	}
+	return sb;
+    }
+
+    /**
+     * Appends the specified array to the specified {@link Appendable}, using the specified
+     * string as delimiter. The values of the array are obtained as specified by
+     * {@link String#valueOf(Object)}.
+     * 
+     * @param out
+     *            The appendable to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified appendable.
+     * @throws IOException
+     *             if the appendable throws an {@link IOException}.
+     */
+    public static <A extends Appendable, T> A appendTo(A out, String delimiter, T[] array) throws IOException {
+	int length = array.length;
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		out.append(delimiter);
+	    out.append(valueOf(array[i]));
+	}
+	return out;
+    }
+
+    /**
+     * Appends the specified array to the specified {@link Appendable}, using the specified
+     * string as delimiter. The digits of each value are appended character by character, so
+     * that no intermediate strings are created.
+     * 
+     * @param out
+     *            The appendable to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified appendable.
+     * @throws IOException
+     *             if the appendable throws an {@link IOException}.
+     */
+    public static <A extends Appendable> A appendTo(A out, String delimiter, int[] array) throws IOException {
+	int length = array.length;
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		out.append(delimiter);
+	    appendDigits(out, array[i]);
+	}
+	return out;
+    }
+
+    /**
+     * Appends the specified array to the specified {@link Appendable}, using the specified
+     * string as delimiter. The digits of each value are appended character by character, so
+     * that no intermediate strings are created.
+     * 
+     * @param out
+     *            The appendable to append to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be appended.
+     * @return The specified appendable.
+     * @throws IOException
+     *             if the appendable throws an {@link IOException}.
+     */
+    public static <A extends Appendable> A appendTo(A out, String delimiter, long[] array) throws IOException {
+	int length = array.length;
+	for (int i = 0; i < length; i++) {
+	    if (i > 0 && delimiter != null)
+		out.append(delimiter);
+	    appendDigits(out, array[i]);
+	}
+	return out;
+    }
+
+    /**
+     * Writes the specified array, starting at the specified index, to the specified
+     * {@link ByteBuffer} as ASCII, using the specified string as delimiter. Digits are encoded
+     * straight into the buffer, without creating intermediate strings; the delimiter is encoded
+     * as ISO-8859-1, replacing unmappable characters with {@code '?'}.
+     * <p>
+     * Elements are written whole, each preceded by the delimiter unless it is the first element
+     * of the array. If the next element does not fit in the remaining space of the buffer,
+     * writing stops and the index of that element is returned, so that the caller can flush the
+     * buffer and resume from that index. An element that would not fit even in the empty buffer
+     * can never be written this way, so it is rejected with an exception instead, after the
+     * elements preceding it have been written.
+     * </p>
+     * 
+     * @param buffer
+     *            The buffer to write to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be written.
+     * @param fromIndex
+     *            The index of the first element to write.
+     * @return The index of the first element that was not written, which is the length of the
+     *         array if all elements were written.
+     * @throws IndexOutOfBoundsException
+     *             if the index is negative or greater than the length of the array.
+     * @throws IllegalArgumentException
+     *             if an element, including its delimiter, is larger than the capacity of the
+     *             buffer.
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only.
+     */
+    public static int writeTo(ByteBuffer buffer, String delimiter, int[] array, int fromIndex) {
+	int length = array.length;
+	Objects.checkFromToIndex(fromIndex, length, length);
+
+	int delimiterLength = (delimiter == null) ? 0 : delimiter.length();
+	for (int i = fromIndex; i < length; i++) {
+	    int value = array[i], prefix = (i == 0) ? 0 : delimiterLength;
+	    int size = prefix + stringSize(value);
+	    if (!fits(buffer, i, size))
+		return i;
+
+	    if (prefix > 0)
+		putLatin1(buffer, delimiter);
+	    putDigits(buffer, value, size - prefix);
+	}
+	return length;
+    }
+
+    /**
+     * Writes the specified array, starting at the specified index, to the specified
+     * {@link ByteBuffer} as ASCII, using the specified string as delimiter, as specified by
+     * {@link #writeTo(ByteBuffer, String, int[], int)}.
+     * 
+     * @param buffer
+     *            The buffer to write to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be written.
+     * @param fromIndex
+     *            The index of the first element to write.
+     * @return The index of the first element that was not written, which is the length of the
+     *         array if all elements were written.
+     * @throws IndexOutOfBoundsException
+     *             if the index is negative or greater than the length of the array.
+     * @throws IllegalArgumentException
+     *             if an element, including its delimiter, is larger than the capacity of the
+     *             buffer.
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only.
+     */
+    public static int writeTo(ByteBuffer buffer, String delimiter, long[] array, int fromIndex) {
+	int length = array.length;
+	Objects.checkFromToIndex(fromIndex, length, length);
+
+	int delimiterLength = (delimiter == null) ? 0 : delimiter.length();
+	for (int i = fromIndex; i < length; i++) {
+	    long value = array[i];
+	    int prefix = (i == 0) ? 0 : delimiterLength;
+	    int size = prefix + stringSize(value);
+	    if (!fits(buffer, i, size))
+		return i;
+
+	    if (prefix > 0)
+		putLatin1(buffer, delimiter);
+	    putDigits(buffer, value, size - prefix);
+	}
+	return length;
+    }
+
+    /**
+     * Writes the specified array, starting at the specified index, to the specified
+     * {@link ByteBuffer} as ISO-8859-1, using the specified string as delimiter, as specified
+     * by {@link #writeTo(ByteBuffer, String, int[], int)}. The values of the array are obtained
+     * as specified by {@link String#valueOf(Object)}, and unmappable characters are replaced
+     * with {@code '?'}.
+     * 
+     * @param buffer
+     *            The buffer to write to.
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array that is to be written.
+     * @param fromIndex
+     *            The index of the first element to write.
+     * @return The index of the first element that was not written, which is the length of the
+     *         array if all elements were written.
+     * @throws IndexOutOfBoundsException
+     *             if the index is negative or greater than the length of the array.
+     * @throws IllegalArgumentException
+     *             if an element, including its delimiter, is larger than the capacity of the
+     *             buffer.
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only.
+     */
+    public static <T> int writeTo(ByteBuffer buffer, String delimiter, T[] array, int fromIndex) {
+	int length = array.length;
+	Objects.checkFromToIndex(fromIndex, length, length);
+
+	int delimiterLength = (delimiter == null) ? 0 : delimiter.length();
+	for (int i = fromIndex; i < length; i++) {
+	    String value = valueOf(array[i]);
+	    int prefix = (i == 0) ? 0 : delimiterLength;
+	    if (!fits(buffer, i, prefix + value.length()))
+		return i;
+
+	    if (prefix > 0)
+		putLatin1(buffer, delimiter);
+	    putLatin1(buffer, value);
+	}
+	return length;
+    }
+
+    /**
+     * Returns whether an element of the specified size fits in the remaining space of the
+     * specified {@link ByteBuffer}.
+     * 
+     * @param buffer
+     *            The buffer.
+     * @param index
+     *            The index of the element.
+     * @param size
+     *            The size of the element, including its delimiter.
+     * @return {@code true} if the element fits, {@code false} if the buffer has to be drained
+     *         first.
+     * @throws IllegalArgumentException
+     *             if the element is larger than the capacity of the buffer, so that it would
+     *             not fit even once the buffer is drained.
+     */
+    private static boolean fits(ByteBuffer buffer, int index, int size) {
+	if (size <= buffer.remaining())
+	    return true;
+	else if (size > buffer.capacity())
+	    throw new IllegalArgumentException("Element " + index + " takes " + size + " bytes, exceeding the buffer capacity of "
+		    + buffer.capacity() + ".");
+
+	return false;
+    }
+
+    /**
+     * Puts the specified characters into the specified {@link ByteBuffer} as ISO-8859-1,
+     * replacing unmappable characters with {@code '?'}. The buffer must have enough space
+     * remaining.
+     * 
+     * @param buffer
+     *            The buffer.
+     * @param chars
+     *            The characters.
+     */
+    private static void putLatin1(ByteBuffer buffer, String chars) {
+	int length = chars.length();
+	for (int i = 0; i < length; i++) {
+	    char c = chars.charAt(i);
+	    buffer.put((byte) ((c <= 0xFF) ? c : '?'));
+	}
+    }
+
+    /**
+     * Puts the decimal representation of the specified value into the specified
+     * {@link ByteBuffer} as ASCII. The digits are written from the least significant one
+     * backwards, using absolute puts, after which the position of the buffer is advanced past
+     * them.
+     * 
+     * @param buffer
+     *            The buffer, which must have enough space remaining.
+     * @param value
+     *            The value.
+     * @param size
+     *            The length of the decimal representation, as returned by
+     *            {@link #stringSize(long)}.
+     */
+    private static void putDigits(ByteBuffer buffer, long value, int size) {
+	int start = buffer.position(), index = start + size;
+	long remainder = (value < 0) ? value : -value;
+	do {
+	    buffer.put(--index, (byte) ('0' - remainder % 10));
+	    remainder /= 10;
+	} while (remainder != 0);
+
+	if (value < 0)
+	    buffer.put(--index, (byte) '-');
+	buffer.position(start + size);
+    }
+
+    /**
+     * Appends the decimal representation of the specified value to the specified
+     * {@link Appendable}, one character at a time.
+     * 
+     * @param out
+     *            The appendable to append to.
+     * @param value
+     *            The value.
+     * @throws IOException
+     *             if the appendable throws an {@link IOException}.
+     */
+    private static void appendDigits(Appendable out, long value) throws IOException {
+	if (value < 0)
+	    out.append('-');
+	else
+	    value = -value;
+
+	long divisor = 1;
+	while (value / divisor <= -10)
+	    divisor *= 10;
+
+	for (; divisor != 0; divisor /= 10) {
+	    out.append((char) ('0' - value / divisor));
+	    value %= divisor;
+	}
+    }
+
+    /**
+     * Returns the exact length of the string representation of the specified array, as
+     * produced by {@link #toString(String, int[])}.
+     * 
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array.
+     * @return The length of the string representation.
+     */
+    private static int stringSize(String delimiter, int[] array) {
+	int length = array.length;
+	int size = (delimiter == null || length == 0) ? 0 : delimiter.length() * (length - 1);
+	for (int value : array)
+	    size += stringSize(value);
+
+	return size;
+    }
+
+    /**
+     * Returns the exact length of the string representation of the specified array, as
+     * produced by {@link #toString(String, long[])}.
+     * 
+     * @param delimiter
+     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param array
+     *            The array.
+     * @return The length of the string representation.
+     */
+    private static int stringSize(String delimiter, long[] array) {
+	int length = array.length;
+	int size = (delimiter == null || length == 0) ? 0 : delimiter.length() * (length - 1);
+	for (long value : array)
+	    size += stringSize(value);
+
+	return size;
+    }
+
+    /**
+     * Returns the length of the decimal representation of the specified value, including the
+     * sign.
+     * 
+     * @param value
+     *            The value.
+     * @return The length of the decimal representation.
+     */
+    private static int stringSize(long value) {
+	int size = 1;
+	if (value >= 0) {
+	    size = 0;
+	    value = -value;
 	}
-	return result;
+
+	long bound = -10;
+	for (int digits = 1; digits < 19; digits++) {
+	    if (value > bound)
+		return size + digits;
+	    bound *= 10;
+	}
+	return size + 19;
     }
 
     /**
-     * Uses the specified {@link Function} to convert the specified array of type {@code S} to
-     * a primitive-{@code int} array.
+     * Performs a simple for-each loop on the specified array, returning {@code true} if the
+     * specified value was found using the {@link Object#equals(Object) equality method}.
      * 
-     * @param converter
-     *            The function that converts the element types.
+     * @param value
+     *            The value to be searching for.
      * @param array
-     *            The array that needs to be converted.
-     * @return The converted array.
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     * @see #identityContains(Object, Object...)
      */
     @SafeVarargs
-    public static <S> int[] convert(Function<S, Integer> converter, S... array) {
-	int length = array.length;
-	int[] result = new int[length];
+    public static <T> boolean search(final T value, final T... array) {
+	return indexOf(value, array) >= 0;
+    }
 
-	if (length == 0)
-	    return result;
-	if (length == 1) {
-	    result[0] = converter.apply(array[0]);
-	    return result;
+    /**
+     * Returns whether the specified array contains the specified value, as defined by the
+     * {@link Object#equals(Object) equality method} of the value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    @SafeVarargs
+    public static <T> boolean contains(T value, T... array) {
+	return indexOf(value, array) >= 0;
+    }
+
+    /**
+     * Returns the index of the first element of the specified array that equals the specified
+     * value, as defined by the {@link Object#equals(Object) equality method} of the value. A
+     * {@code null} value matches {@code null} elements.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    @SafeVarargs
+    public static <T> int indexOf(T value, T... array) {
+	if (value == null)
+	    return identityIndexOf(null, array);
+
+	switch (array.length) {
+	case 0:
+	    return -1;
+	case 1:
+	    return matches(value, array[0]) ? 0 : -1;
+	case 2:
+	    return matches(value, array[0]) ? 0 : matches(value, array[1]) ? 1 : -1;
+	default:
+	    for (int i = 0; i < array.length; i++) {
+		if (matches(value, array[i]))
+		    return i;
+	    }
+	    return -1;
 	}
+    }
 
-	for (int i = 0; i < length; i++)
-	    result[i] = converter.apply(array[i]);
+    /**
+     * Returns the index of the last element of the specified array that equals the specified
+     * value, as defined by the {@link Object#equals(Object) equality method} of the value. A
+     * {@code null} value matches {@code null} elements.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
+     */
+    @SafeVarargs
+    public static <T> int lastIndexOf(T value, T... array) {
+	if (value == null)
+	    return identityLastIndexOf(null, array);
 
-	return result;
+	for (int i = array.length - 1; i >= 0; i--) {
+	    if (matches(value, array[i]))
+		return i;
+	}
+	return -1;
     }
 
     /**
-     * Uses the specified {@link Function} to convert the specified array of type {@code S} to
-     * an array of type {@code D}.
+     * Returns whether the specified array contains the specified value, comparing by identity
+     * rather than equality. This is the faster choice for enum constants and other values of
+     * which only a single instance exists.
      * 
-     * @param type
-     *            The class type of the destination element type.
-     * @param converter
-     *            The function that converts the element types.
+     * @param value
+     *            The value to be searching for.
      * @param array
-     *            The array that needs to be converted.
-     * @return The converted array.
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
      */
-    @SuppressWarnings("unchecked")
     @SafeVarargs
-    public static <S, D> D[] convert(Class<D> type, Function<S, D> converter, S... array) {
-	int length = array.length;
-	D[] result = (D[]) newInstance(type, length);
+    public static <T> boolean identityContains(T value, T... array) {
+	return identityIndexOf(value, array) >= 0;
+    }
 
-	if (length == 0)
-	    return result;
-	if (length == 1) {
-	    result[0] = converter.apply(array[0]);
-	    return result;
+    /**
+     * Returns the index of the first element of the specified array that is identical to the
+     * specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    @SafeVarargs
+    public static <T> int identityIndexOf(T value, T... array) {
+	switch (array.length) {
+	case 0:
+	    return -1;
+	case 1:
+	    return (array[0] == value) ? 0 : -1;
+	case 2:
+	    return (array[0] == value) ? 0 : (array[1] == value) ? 1 : -1;
+	default:
+	    for (int i = 0; i < array.length; i++) {
+		if (array[i] == value)
+		    return i;
+	    }
+	    return -1;
 	}
+    }
 
-	for (int i = 0; i < length; i++)
-	    result[i] = converter.apply(array[i]);
+    /**
+     * Returns the index of the last element of the specified array that is identical to the
+     * specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
+     */
+    @SafeVarargs
+    public static <T> int identityLastIndexOf(T value, T... array) {
+	for (int i = array.length - 1; i >= 0; i--) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
 
-	return result;
+    /**
+     * Returns whether the specified element equals the specified non-{@code null} value,
+     * comparing by identity first to avoid the call to {@link Object#equals(Object)}.
+     * 
+     * @param value
+     *            The value, which is not {@code null}.
+     * @param element
+     *            The element.
+     * @return {@code true} if the element equals the value, {@code false} otherwise.
+     */
+    private static boolean matches(Object value, Object element) {
+	return value == element || value.equals(element);
+    }
+
+    /**
+     * Searches the specified {@code int} array for the specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    public static boolean search(int value, int[] array) {
+	return indexOf(value, array) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the specified
+     * {@code int} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public static int indexOf(int value, int[] array) {
+	for (int i = 0; i < array.length; i++) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in the specified
+     * {@code int} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
+     */
+    public static int lastIndexOf(int value, int[] array) {
+	for (int i = array.length - 1; i >= 0; i--) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Counts all occurrences of the specified value in the specified {@code int} array, one
+     * element at a time. The loop is free of branches, so frequent matches do not cost branch
+     * mispredictions. The array is counted in the {@link ForkJoinPool#commonPool() common pool}
+     * if the {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @return The amount of occurrences.
+     */
+    public static int count(int value, int[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> count(value, array, from, to));
+    }
+
+    /**
+     * Counts all occurrences of the specified value in the specified range of the specified
+     * {@code int} array.
+     * 
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @return The amount of occurrences.
+     */
+    private static int count(int value, int[] array, int fromIndex, int toIndex) {
+	int count = 0;
+	for (int i = fromIndex; i < toIndex; i++)
+	    count += (array[i] == value) ? 1 : 0;
+	return count;
+    }
+
+    /**
+     * Searches the specified {@code long} array for the specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    public static boolean search(long value, long[] array) {
+	return indexOf(value, array) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the specified
+     * {@code long} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public static int indexOf(long value, long[] array) {
+	for (int i = 0; i < array.length; i++) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in the specified
+     * {@code long} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
+     */
+    public static int lastIndexOf(long value, long[] array) {
+	for (int i = array.length - 1; i >= 0; i--) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Counts all occurrences of the specified value in the specified {@code long} array, one
+     * element at a time. The loop is free of branches, so frequent matches do not cost branch
+     * mispredictions. The array is counted in the {@link ForkJoinPool#commonPool() common pool}
+     * if the {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @return The amount of occurrences.
+     */
+    public static int count(long value, long[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> count(value, array, from, to));
+    }
+
+    /**
+     * Counts all occurrences of the specified value in the specified range of the specified
+     * {@code long} array.
+     * 
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @return The amount of occurrences.
+     */
+    private static int count(long value, long[] array, int fromIndex, int toIndex) {
+	int count = 0;
+	for (int i = fromIndex; i < toIndex; i++)
+	    count += (array[i] == value) ? 1 : 0;
+	return count;
+    }
+
+    /**
+     * Searches the specified {@code short} array for the specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    public static boolean search(short value, short[] array) {
+	return indexOf(value, array) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the specified
+     * {@code short} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public static int indexOf(short value, short[] array) {
+	for (int i = 0; i < array.length; i++) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in the specified
+     * {@code short} array, comparing one element at a time.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
+     */
+    public static int lastIndexOf(short value, short[] array) {
+	for (int i = array.length - 1; i >= 0; i--) {
+	    if (array[i] == value)
+		return i;
+	}
+	return -1;
+    }
+
+    /**
+     * Counts all occurrences of the specified value in the specified {@code short} array, one
+     * element at a time. The loop is free of branches, so frequent matches do not cost branch
+     * mispredictions. The array is counted in the {@link ForkJoinPool#commonPool() common pool}
+     * if the {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @return The amount of occurrences.
+     */
+    public static int count(short value, short[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> count(value, array, from, to));
     }
 
     /**
-     * Uses the specified {@link Function} to convert the specified arrays of type {@code S} to
-     * a single array of type {@code D}.
+     * Counts all occurrences of the specified value in the specified range of the specified
+     * {@code short} array.
      * 
-     * @param type
-     *            The class type of the destination element type.
-     * @param converter
-     *            The function that converts the element types.
-     * @param arrays
-     *            The array that needs to be converted.
-     * @return The converted array.
+     * @param value
+     *            The value to be counting.
+     * @param array
+     *            The array to be searching.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @return The amount of occurrences.
      */
-    @SuppressWarnings("unchecked")
-    @SafeVarargs
-    public static <S, D> D[] convert(Class<D> type, Function<S, D> converter, S[]... arrays) {
-	int length = arrays.length;
-	if (length == 1)
-	    return convert(type, converter, arrays[0]);
-
-	D[] result = (D[]) newInstance(type, length);
-	if (length == 0)
-	    return result;
-
-	length = 0;
-	for (S[] array : arrays)
-	    length += array.length;
-
-	int offset = 0;
-	for (S[] array : arrays) {
-	    length = array.length;
-	    if (length == 0)
-		continue;
-
-	    for (int i = offset; i < length; i++)
-		result[offset + 1] = converter.apply(array[i]);
-
-	    offset += length;
-	}
-	return result;
+    private static int count(short value, short[] array, int fromIndex, int toIndex) {
+	int count = 0;
+	for (int i = fromIndex; i < toIndex; i++)
+	    count += (array[i] == value) ? 1 : 0;
+	return count;
     }
 
     /**
-     * Concatenates the specified array into a single string, using the specified string as
-     * delimiter. The values of the array as obtained as specified by
-     * {@link String#valueOf(Object)}.
+     * Searches the specified {@code byte} array for the specified value.
      * 
-     * @param delimiter
-     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param value
+     *            The value to be searching for.
      * @param array
-     *            The array that is to be concatenated.
-     * @return The resulting string.
+     *            The array to be searching.
+     * @return {@code true} if the value was found, {@code false} otherwise.
      */
-    public static <T> String toString(String delimiter, T[] array) {
-	int length = array.length;
-	switch (length) {
-	case 0:
-	    return "";
-	case 1:
-	    return valueOf(array[0]);
-	case 2:
-	    return valueOf(array[0]) + ((delimiter != null) ? delimiter : "") + valueOf(array[1]);
-	default:
-	    String first = valueOf(array[0]);
-
-	    int last = (length - 1);
-	    StringBuilder sb = new StringBuilder((first.length() + delimiter.length()) * length);
+    public static boolean search(byte value, byte[] array) {
+	return indexOf(value, array) >= 0;
+    }
 
-	    sb.append(first).append(delimiter);
-	    for (int i = 1; i < length; i++) {
-		sb.append(array[i]);
-		if (i == last)
-		    return sb.toString();
+    /**
+     * Returns the index of the first occurrence of the specified value in the specified
+     * {@code byte} array. Unless the array is short, eight elements are compared at a time, as a
+     * single {@code long}.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @param array
+     *            The array to be searching.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public static int indexOf(byte value, byte[] array) {
+	int length = array.length, i = 0;
+	long pattern = broadcast(value);
+	for (int bound = vectorized(length) ? length - Long.BYTES : -1; i <= bound; i += Long.BYTES) {
+	    long matches = zeroBytes((long) LONG_BYTES.get(array, i) ^ pattern);
+	    if (matches != 0)
+		return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+	}
 
-		if (delimiter != null)
-		    sb.append(delimiter);
-	    }
+	for (; i < length; i++) {
+	    if (array[i] == value)
+		return i;
 	}
-	throw new IllegalStateException();
+	return -1;
     }
 
     /**
-     * Concatenates the specified array into a single string, using the specified string as
-     * delimiter. The values of the array as obtained as specified by
-     * {@link String#valueOf(Object)}.
+     * Returns the index of the last occurrence of the specified value in the specified
+     * {@code byte} array. Unless the array is short, eight elements are compared at a time, as a
+     * single {@code long}.
      * 
-     * @param delimiter
-     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param value
+     *            The value to be searching for.
      * @param array
-     *            The array that is to be concatenated.
-     * @return The resulting string.
+     *            The array to be searching.
+     * @return The index of the last occurrence, or {@code -1} if the value was not found.
      */
-    public static String toString(String delimiter, int[] array) {
-	int length = array.length;
-	switch (length) {
-	case 0:
-	    return "";
-	case 1:
-	    return valueOf(array[0]);
-	case 2:
-	    return array[0] + ((delimiter != null) ? delimiter : "") + array[1];
-	default:
-	    String first = valueOf(array[0]);
-
-	    int last = (length - 1);
-	    StringBuilder sb = new StringBuilder((first.length() + delimiter.length()) * length);
-
-	    sb.append(first).append(delimiter);
-	    for (int i = 1; i < length; i++) {
-		sb.append(array[i]);
-		if (i == last)
-		    return sb.toString();
+    public static int lastIndexOf(byte value, byte[] array) {
+	int i = array.length;
+	long pattern = broadcast(value);
+	for (int bound = vectorized(i) ? Long.BYTES : Integer.MAX_VALUE; i >= bound; i -= Long.BYTES) {
+	    long matches = zeroBytes((long) LONG_BYTES.get(array, i - Long.BYTES) ^ pattern);
+	    if (matches != 0)
+		return i - 1 - (Long.numberOfLeadingZeros(matches) >>> 3);
+	}
 
-		if (delimiter != null)
-		    sb.append(delimiter);
-	    }
+	while (--i >= 0) {
+	    if (array[i] == value)
+		return i;
 	}
-	throw new IllegalStateException();
+	return -1;
     }
 
     /**
-     * Concatenates the specified array into a single string, using the specified string as
-     * delimiter. The values of the array as obtained as specified by
-     * {@link String#valueOf(Object)}.
+     * Counts all occurrences of the specified value in the specified {@code byte} array. Unless
+     * the array is short, eight elements are compared at a time, as a single {@code long}. The
+     * array is counted in the {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
      * 
-     * @param delimiter
-     *            The delimiter of the array (may be {@code null} for no delimiter).
+     * @param value
+     *            The value to be counting.
      * @param array
-     *            The array that is to be concatenated.
-     * @return The resulting string.
+     *            The array to be searching.
+     * @return The amount of occurrences.
      */
-    public static String toString(String delimiter, long[] array) {
-	int length = array.length;
-	switch (length) {
-	case 0:
-	    return "";
-	case 1:
-	    return valueOf(array[0]);
-	case 2:
-	    return array[0] + ((delimiter != null) ? delimiter : "") + array[1];
-	default:
-	    String first = valueOf(array[0]);
-
-	    final int last = (length - 1);
-	    final StringBuilder sb = new StringBuilder((first.length() + delimiter.length()) * length);
-
-	    sb.append(first).append(delimiter);
-	    for (int i = 1; i < length; i++) {
-		sb.append(array[i]);
-		if (i == last)
-		    return sb.toString();
-
-		if (delimiter != null)
-		    sb.append(delimiter);
-	    }
-	}
-	throw new IllegalStateException();
+    public static int count(byte value, byte[] array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> count(value, array, from, to));
     }
 
     /**
-     * Performs a simple for-each loop on the specified array, returning {@code true} if the
-     * specified value was found using the {@link Object#equals(Object) equality method}.
+     * Counts all occurrences of the specified value in the specified range of the specified
+     * {@code byte} array, comparing eight elements at a time unless the range is short.
      * 
      * @param value
-     *            The value to be searching for.
+     *            The value to be counting.
      * @param array
      *            The array to be searching.
-     * @return {@code true} if the value was found, {@code false} otherwise.
+     * @param fromIndex
+     *            The index of the first element (inclusive).
+     * @param toIndex
+     *            The index of the last element (exclusive).
+     * @return The amount of occurrences.
      */
-    @SafeVarargs
-    public static <T> boolean search(final T value, final T... array) {
-	if (array.length == 0)
-	    return false;
+    private static int count(byte value, byte[] array, int fromIndex, int toIndex) {
+	int i = fromIndex, count = 0;
+	long pattern = broadcast(value);
+	for (int bound = vectorized(toIndex - fromIndex) ? toIndex - Long.BYTES : -1; i <= bound; i += Long.BYTES)
+	    count += Long.bitCount(zeroBytes((long) LONG_BYTES.get(array, i) ^ pattern));
 
-	if (value == null)
-	    return Stream.of(array).anyMatch(e -> e == null);
+	for (; i < toIndex; i++)
+	    count += (array[i] == value) ? 1 : 0;
+	return count;
+    }
+
+    /**
+     * Returns whether a search of a {@code byte} array of the specified length compares eight
+     * elements at a time, as {@link StrategySelector#current() selected} for the
+     * {@link Operation#SEARCH search} operation.
+     * 
+     * @param length
+     *            The length of the array.
+     * @return {@code true} if the search is vectorized, {@code false} if it is a plain loop.
+     */
+    private static boolean vectorized(int length) {
+	return StrategySelector.current().select(Operation.SEARCH, length) != ExecutionStrategy.SEQUENTIAL;
+    }
+
+    /**
+     * Repeats the specified value in each of the eight bytes of a {@code long}.
+     * 
+     * @param value
+     *            The value.
+     * @return The repeated value.
+     */
+    private static long broadcast(byte value) {
+	return (value & 0xFFL) * 0x0101010101010101L;
+    }
 
-	return Stream.of(array).anyMatch(e -> e != null && e.equals(value));
+    /**
+     * Returns a mask with the high bit set of each byte of the specified word that is zero, and
+     * all other bits cleared. Unlike the usual carry-based test, no byte is ever reported
+     * falsely, so the mask can be counted and scanned from either end.
+     * 
+     * @param word
+     *            The word.
+     * @return The mask of zero bytes.
+     */
+    private static long zeroBytes(long word) {
+	long low = (word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+	return ~(low | word | 0x7F7F7F7F7F7F7F7FL);
     }
 
     /**
@@ -497,7 +4699,9 @@ public final class ArrayUtils {
     }
 
     /**
-     * Counts all entries in the specified array that are {@code null}.
+     * Counts all entries in the specified array that are {@code null}. The array is counted in
+     * the {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
      * 
      * @param array
      *            The array to be counting the {@code null} entries of.
@@ -511,6 +4715,11 @@ public final class ArrayUtils {
 	case 1:
 	    return (array[0] == null) ? 1 : 0;
 	default:
+	    ForkJoinPool pool = ForkJoinPool.commonPool();
+	    int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	    if (minSplitSize < array.length)
+		return parallelCountNull(pool, minSplitSize, array);
+
 	    int count = 0;
 	    for (T t : array) {
 		if (t == null)
@@ -520,6 +4729,28 @@ public final class ArrayUtils {
 	}
     }
 
+    /**
+     * Counts all entries in the specified array that match the specified predicate.
+     * 
+     * @param predicate
+     *            The predicate that the entries are tested against.
+     * @param array
+     *            The array to be counting the matching entries of.
+     * @return The amount of array entries that match the predicate.
+     * @throws NullPointerException
+     *             if predicate is {@code null}.
+     */
+    @SafeVarargs
+    public static <T> int count(Predicate<? super T> predicate, T... array) {
+	Objects.requireNonNull(predicate);
+	int count = 0;
+	for (T t : array) {
+	    if (predicate.test(t))
+		count++;
+	}
+	return count;
+    }
+
     /**
      * Counts, in parallel, all entries in the specified array that aren't {@code null}.
      * Parellel array operations are useful when working with larger arrays on a multi-core
@@ -534,6 +4765,27 @@ public final class ArrayUtils {
 	return (array.length - parallelCountNull(array));
     }
 
+    /**
+     * Counts, in parallel, all entries in the specified array that aren't {@code null}.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are counted sequentially by a single
+     *            worker. Arrays no longer than this are counted on the calling thread.
+     * @param array
+     *            The array to be counting the non-{@code null} entries of.
+     * @return The amount of array entries that aren't {@code null}.
+     * @throws NullPointerException
+     *             if pool is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <T> int parallelCountNonNull(ForkJoinPool pool, int minSplitSize, T... array) {
+	return (array.length - parallelCountNull(pool, minSplitSize, array));
+    }
+
     /**
      * Counts, in parallel, all entries in the specified array that are {@code null}. Parellel
      * array operations are useful when working with larger arrays on a multi-core machine.
@@ -544,19 +4796,239 @@ public final class ArrayUtils {
      */
     @SafeVarargs
     public static <T> int parallelCountNull(T... array) {
-	switch (array.length) {
-	case 0:
-	    return 0;
-	case 1:
-	    return (array[0] == null) ? 1 : 0;
-	default:
-	    AtomicInteger count = new AtomicInteger();
-	    Arrays.stream(array).parallel().forEach(element -> {
-		if (element == null)
-		    count.incrementAndGet();
-	    });
-	    return count.intValue();
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return parallelCountNull(pool, minSplitSize, array);
+    }
+
+    /**
+     * Counts, in parallel, all entries in the specified array that are {@code null}. Each worker
+     * counts its own ranges of the array, and the partial counts are summed as the workers are
+     * joined, so no counter is shared between them.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are counted sequentially by a single
+     *            worker. Arrays no longer than this are counted on the calling thread.
+     * @param array
+     *            The array to be counting the {@code null} entries of.
+     * @return The amount of array entries that are {@code null}.
+     * @throws NullPointerException
+     *             if pool is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <T> int parallelCountNull(ForkJoinPool pool, int minSplitSize, T... array) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    int count = 0;
+	    for (int i = from; i < to; i++)
+		count += (array[i] == null) ? 1 : 0;
+	    return count;
+	});
+    }
+
+    /**
+     * Counts, in parallel, all entries in the specified array that match the specified
+     * predicate.
+     * 
+     * @param predicate
+     *            The predicate that the entries are tested against. It may be invoked
+     *            concurrently.
+     * @param array
+     *            The array to be counting the matching entries of.
+     * @return The amount of array entries that match the predicate.
+     * @throws NullPointerException
+     *             if predicate is {@code null}.
+     */
+    @SafeVarargs
+    public static <T> int parallelCount(Predicate<? super T> predicate, T... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COUNT, array.length, pool);
+	return parallelCount(pool, minSplitSize, predicate, array);
+    }
+
+    /**
+     * Counts, in parallel, all entries in the specified array that match the specified
+     * predicate. Each worker counts its own ranges of the array, and the partial counts are
+     * summed as the workers are joined, so no counter is shared between them.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are counted sequentially by a single
+     *            worker. Arrays no longer than this are counted on the calling thread.
+     * @param predicate
+     *            The predicate that the entries are tested against. It may be invoked
+     *            concurrently.
+     * @param array
+     *            The array to be counting the matching entries of.
+     * @return The amount of array entries that match the predicate.
+     * @throws NullPointerException
+     *             if pool or predicate is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <T> int parallelCount(ForkJoinPool pool, int minSplitSize, Predicate<? super T> predicate, T... array) {
+	Objects.requireNonNull(pool);
+	Objects.requireNonNull(predicate);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	return ArrayTasks.count(pool, minSplitSize, 0, array.length, (from, to) -> {
+	    int count = 0;
+	    for (int i = from; i < to; i++) {
+		if (predicate.test(array[i]))
+		    count++;
+	    }
+	    return count;
+	});
+    }
+
+    /**
+     * Moves all entries in the specified array that aren't {@code null} to the front of the
+     * array, preserving their order, and sets the remaining entries to {@code null}. The array
+     * is compacted in the {@link ForkJoinPool#commonPool() common pool} if the
+     * {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param array
+     *            The array to be compacted.
+     * @return The amount of array entries that aren't {@code null}, which is the index of the
+     *         first {@code null} entry after compaction.
+     */
+    @SafeVarargs
+    public static <T> int compactNulls(T... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COMPACT, array.length, pool);
+	return parallelCompactNulls(pool, minSplitSize, array);
+    }
+
+    /**
+     * Copies all entries in the specified array that aren't {@code null} to the specified
+     * destination, starting at the specified position, preserving their order. The source array
+     * is left untouched.
+     * 
+     * @param dest
+     *            The array that the entries are copied to.
+     * @param destPos
+     *            The position in the destination of the first copied entry.
+     * @param array
+     *            The array to be compacting the non-{@code null} entries of.
+     * @return The amount of copied entries.
+     * @throws IndexOutOfBoundsException
+     *             if the destination cannot hold all non-{@code null} entries from the specified
+     *             position on. Nothing is copied in that case.
+     * @throws ArrayStoreException
+     *             if an entry cannot be stored in the destination.
+     */
+    @SafeVarargs
+    public static <T> int compactNullsInto(T[] dest, int destPos, T... array) {
+	int live = countNonNull(array);
+	Objects.checkFromIndexSize(destPos, live, dest.length);
+
+	for (T element : array) {
+	    if (element != null)
+		dest[destPos++] = element;
+	}
+	return live;
+    }
+
+    /**
+     * Moves, in parallel, all entries in the specified array that aren't {@code null} to the
+     * front of the array, preserving their order, and sets the remaining entries to
+     * {@code null}. The array is split across the {@link ForkJoinPool#commonPool() common pool}
+     * if the {@link StrategySelector#current() current strategy selector} deems it large enough.
+     * 
+     * @param array
+     *            The array to be compacted.
+     * @return The amount of array entries that aren't {@code null}.
+     */
+    @SafeVarargs
+    public static <T> int parallelCompactNulls(T... array) {
+	ForkJoinPool pool = ForkJoinPool.commonPool();
+	int minSplitSize = StrategySelector.current().minSplitSize(Operation.COMPACT, array.length, pool);
+	return parallelCompactNulls(pool, minSplitSize, array);
+    }
+
+    /**
+     * Moves, in parallel, all entries in the specified array that aren't {@code null} to the
+     * front of the array, preserving their order, and sets the remaining entries to
+     * {@code null}. The array is divided into chunks that are each compacted by a single worker,
+     * after which the compacted chunks are moved next to each other on the calling thread, using
+     * the system's array copying functionality.
+     * 
+     * @param pool
+     *            The pool that the array is split across.
+     * @param minSplitSize
+     *            The minimum amount of elements that are compacted sequentially by a single
+     *            worker. Arrays no longer than this are compacted on the calling thread.
+     * @param array
+     *            The array to be compacted.
+     * @return The amount of array entries that aren't {@code null}.
+     * @throws NullPointerException
+     *             if pool is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the minimum split size is not positive.
+     */
+    @SafeVarargs
+    public static <T> int parallelCompactNulls(ForkJoinPool pool, int minSplitSize, T... array) {
+	Objects.requireNonNull(pool);
+	ArrayTasks.checkSplitSize(minSplitSize);
+
+	int length = array.length;
+	if (length <= minSplitSize || pool.getParallelism() == 1) {
+	    int live = compactNulls(array, 0, length);
+	    Arrays.fill(array, live, length, null);
+	    return live;
+	}
+
+	int chunkSize = ArrayTasks.splitSize(pool, minSplitSize, length);
+	int chunks = (length + chunkSize - 1) / chunkSize;
+	int[] counts = new int[chunks];
+	ArrayTasks.forEach(pool, 1, 0, chunks, (from, to) -> {
+	    for (int chunk = from; chunk < to; chunk++) {
+		int start = chunk * chunkSize;
+		counts[chunk] = compactNulls(array, start, Math.min(start + chunkSize, length));
+	    }
+	});
+
+	int live = counts[0];
+	for (int chunk = 1; chunk < chunks; chunk++) {
+	    System.arraycopy(array, chunk * chunkSize, array, live, counts[chunk]);
+	    live += counts[chunk];
+	}
+	Arrays.fill(array, live, length, null);
+	return live;
+    }
+
+    /**
+     * Moves all entries in the specified range of the specified array that aren't {@code null}
+     * to the front of the range, preserving their order. The entries beyond those moved are
+     * left as they are.
+     * 
+     * @param array
+     *            The array to be compacted.
+     * @param fromIndex
+     *            The index of the first entry (inclusive).
+     * @param toIndex
+     *            The index of the last entry (exclusive).
+     * @return The amount of entries in the range that aren't {@code null}.
+     */
+    private static <T> int compactNulls(T[] array, int fromIndex, int toIndex) {
+	int live = fromIndex;
+	while (live < toIndex && array[live] != null)
+	    live++;
+
+	for (int i = live + 1; i < toIndex; i++) {
+	    T element = array[i];
+	    if (element != null)
+		array[live++] = element;
 	}
+	return live - fromIndex;
     }
 
     /**
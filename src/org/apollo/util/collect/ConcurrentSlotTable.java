@@ -0,0 +1,368 @@
+package org.apollo.util.collect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import org.apollo.util.RandomSources;
+import org.apollo.util.function.IntObjConsumer;
+
+/**
+ * A fixed-capacity table of slots that can be shared between threads without locking, e.g. by
+ * the network threads that register players as they log in and the game thread that spawns NPCs
+ * into the same registry. Like {@link SlotTable}, the occupancy of the slots is kept in a bitmap
+ * of one bit per slot.
+ * <p>
+ * A slot is claimed by atomically setting its bit, which only fails if another thread claimed
+ * that very slot first, and not when other slots of the same word change. To keep threads from
+ * contending for the same words, threads are spread by their id across several search hints,
+ * each of which remembers the word in which its threads last found a free slot. The claimed
+ * slot is thus a free one, but not necessarily the lowest.
+ * Elements are published with release semantics and read with acquire semantics, so a thread
+ * that reads an element also sees every write made to it before it was stored in the table.
+ * </p>
+ * <p>
+ * Iteration is weakly consistent: it never fails, and it reflects the state of each slot at
+ * some point during the iteration, but it may or may not reflect slots that change while it is
+ * in progress.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @param <T>
+ *            The type of the elements.
+ */
+public final class ConcurrentSlotTable<T> {
+
+    /**
+     * The handle through which the elements are accessed.
+     */
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * The handle through which the words of the bitmap are accessed.
+     */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The base 2 logarithm of the amount of search hints, which threads are spread across by
+     * their id.
+     */
+    private static final int HINT_STRIPE_BITS = 4;
+
+    /**
+     * The amount of uniformly random slots that a random selection tries, before it falls back
+     * to selecting one of the occupied slots from a snapshot of the bitmap.
+     */
+    private static final int RANDOM_ATTEMPTS = 4;
+
+    /**
+     * The element in each slot, or {@code null} if the slot is free.
+     */
+    private final Object[] elements;
+
+    /**
+     * The occupancy bitmap, with bit {@code i % 64} of word {@code i / 64} set if slot {@code i}
+     * is occupied.
+     */
+    private final long[] occupancy;
+
+    /**
+     * The bits of the last word of the bitmap that correspond to slots.
+     */
+    private final long lastWordMask;
+
+    /**
+     * The word of the bitmap at which the threads of each stripe start searching for a free
+     * slot, which is the word in which they last found one. The hints are read and written
+     * without synchronization, as a stale hint merely lengthens the search.
+     */
+    private final int[] hints;
+
+    /**
+     * Creates the slot table, with all slots free.
+     * 
+     * @param capacity
+     *            The amount of slots.
+     * @throws IllegalArgumentException
+     *             if the capacity is negative.
+     */
+    public ConcurrentSlotTable(int capacity) {
+	if (capacity < 0)
+	    throw new IllegalArgumentException("Capacity may not be negative, was " + capacity + ".");
+
+	elements = new Object[capacity];
+	occupancy = new long[(capacity + Long.SIZE - 1) >>> 6];
+	lastWordMask = ((capacity & (Long.SIZE - 1)) == 0) ? -1L : (1L << capacity) - 1;
+	hints = new int[1 << HINT_STRIPE_BITS];
+	for (int stripe = 0; stripe < hints.length; stripe++)
+	    hints[stripe] = (int) ((long) stripe * occupancy.length >>> HINT_STRIPE_BITS);
+    }
+
+    /**
+     * Returns the stripe of the search hints used by the current thread, spreading the ids of
+     * threads evenly across the stripes.
+     * 
+     * @return The stripe.
+     */
+    private static int hintStripe() {
+	long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+	return (int) (hash >>> (Long.SIZE - HINT_STRIPE_BITS));
+    }
+
+    /**
+     * Stores the specified element in a free slot. The search for a free slot starts at the word
+     * of the bitmap in which threads of the same stripe as the current thread last found one, and
+     * wraps around at the end of the bitmap.
+     * 
+     * @param element
+     *            The element.
+     * @return The index of the slot, or {@code -1} if every slot was found occupied.
+     * @throws NullPointerException
+     *             if the element is {@code null}.
+     */
+    public int allocate(T element) {
+	Objects.requireNonNull(element);
+
+	int words = occupancy.length;
+	if (words == 0)
+	    return -1;
+
+	int stripe = hintStripe();
+	for (int i = 0, word = hints[stripe]; i < words; i++, word = (word + 1 == words) ? 0 : word + 1) {
+	    long mask = (word == words - 1) ? lastWordMask : -1L;
+	    long bits = (long) WORDS.getVolatile(occupancy, word);
+	    for (long free = ~bits & mask; free != 0; free = ~bits & mask) {
+		long bit = free & -free;
+		bits = (long) WORDS.getAndBitwiseOr(occupancy, word, bit);
+		if ((bits & bit) == 0) {
+		    int index = (word << 6) + Long.numberOfTrailingZeros(bit);
+		    ELEMENTS.setRelease(elements, index, element);
+		    hints[stripe] = word;
+		    return index;
+		}
+	    }
+	}
+	return -1;
+    }
+
+    /**
+     * Frees the slot at the specified index. Should several threads release the same slot
+     * concurrently, only one of them receives the element.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return The element that occupied the slot, or {@code null} if it was already free, or
+     *         had been claimed but not yet stored by a concurrent {@link #allocate(Object)}.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T release(int index) {
+	Objects.checkIndex(index, elements.length);
+
+	T element = (T) ELEMENTS.getAndSet(elements, index, null);
+	if (element != null)
+	    WORDS.getAndBitwiseAnd(occupancy, index >>> 6, ~(1L << index));
+	return element;
+    }
+
+    /**
+     * Atomically replaces the element in the occupied slot at the specified index.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @param element
+     *            The new element.
+     * @return The element that occupied the slot.
+     * @throws NullPointerException
+     *             if the element is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     * @throws IllegalStateException
+     *             if the slot is free.
+     */
+    @SuppressWarnings("unchecked")
+    public T replace(int index, T element) {
+	Objects.requireNonNull(element);
+	Objects.checkIndex(index, elements.length);
+
+	Object previous;
+	do {
+	    previous = ELEMENTS.getAcquire(elements, index);
+	    if (previous == null)
+		throw new IllegalStateException("Slot " + index + " is free.");
+	} while (!ELEMENTS.compareAndSet(elements, index, previous, element));
+	return (T) previous;
+    }
+
+    /**
+     * Returns the element in the slot at the specified index.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return The element, or {@code null} if the slot is free.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+	return (T) ELEMENTS.getAcquire(elements, index);
+    }
+
+    /**
+     * Returns whether the slot at the specified index is occupied.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return {@code true} if the slot is occupied, {@code false} if it is free.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    public boolean isOccupied(int index) {
+	Objects.checkIndex(index, elements.length);
+	return ((long) WORDS.getAcquire(occupancy, index >>> 6) & 1L << index) != 0;
+    }
+
+    /**
+     * Invokes the specified action on the element in each occupied slot, in ascending order of
+     * index. The iteration is weakly consistent.
+     * 
+     * @param action
+     *            The action that is to be invoked.
+     * @throws NullPointerException
+     *             if action is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+	Objects.requireNonNull(action);
+	for (int word = 0; word < occupancy.length; word++) {
+	    long bits = (long) WORDS.getAcquire(occupancy, word);
+	    if (bits == -1L) {
+		for (int index = word << 6, end = index + Long.SIZE; index < end; index++) {
+		    Object element = ELEMENTS.getAcquire(elements, index);
+		    if (element != null)
+			action.accept((T) element);
+		}
+		continue;
+	    }
+
+	    for (; bits != 0; bits &= bits - 1) {
+		Object element = ELEMENTS.getAcquire(elements, (word << 6) + Long.numberOfTrailingZeros(bits));
+		if (element != null)
+		    action.accept((T) element);
+	    }
+	}
+    }
+
+    /**
+     * Invokes the specified action on the index and element of each occupied slot, in
+     * ascending order of index. The iteration is weakly consistent.
+     * 
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments, which are the index of the slot and its element.
+     * @throws NullPointerException
+     *             if action is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+	Objects.requireNonNull(action);
+	for (int word = 0; word < occupancy.length; word++) {
+	    long bits = (long) WORDS.getAcquire(occupancy, word);
+	    if (bits == -1L) {
+		for (int index = word << 6, end = index + Long.SIZE; index < end; index++) {
+		    Object element = ELEMENTS.getAcquire(elements, index);
+		    if (element != null)
+			action.accept(index, (T) element);
+		}
+		continue;
+	    }
+
+	    for (; bits != 0; bits &= bits - 1) {
+		int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+		Object element = ELEMENTS.getAcquire(elements, index);
+		if (element != null)
+		    action.accept(index, (T) element);
+	    }
+	}
+    }
+
+    /**
+     * Returns the element in a randomly selected occupied slot, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @return The randomly selected element, or {@code null} if every slot is free.
+     */
+    public T random() {
+	return random(RandomSources.current());
+    }
+
+    /**
+     * Returns the element in a randomly selected occupied slot, as defined by the specified
+     * source of randomness. A few slots are tried uniformly at random first. Should all of them
+     * be free, one of the occupied slots is selected from a snapshot of the bitmap, so that the
+     * selection is unaffected by concurrent changes to it. Should the selected slot turn out to
+     * be free by the time its element is read, another snapshot is taken.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @return The randomly selected element, or {@code null} if every slot is free.
+     * @throws NullPointerException
+     *             if random is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public T random(RandomGenerator random) {
+	Objects.requireNonNull(random);
+	int capacity = elements.length;
+	if (capacity == 0)
+	    return null;
+
+	for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+	    Object element = ELEMENTS.getAcquire(elements, random.nextInt(capacity));
+	    if (element != null)
+		return (T) element;
+	}
+
+	long[] snapshot = new long[occupancy.length];
+	for (;;) {
+	    for (int word = 0; word < snapshot.length; word++)
+		snapshot[word] = (long) WORDS.getAcquire(occupancy, word);
+
+	    int index = ArrayUtils.randomOccupied(random, snapshot, capacity);
+	    if (index < 0)
+		return null;
+
+	    Object element = ELEMENTS.getAcquire(elements, index);
+	    if (element != null)
+		return (T) element;
+	}
+    }
+
+    /**
+     * Returns the amount of occupied slots, counted from the bitmap on demand so that allocating
+     * and releasing never contend on a shared counter. The words are read one after another, so
+     * while other threads allocate or release slots, the result is only an estimate: it may
+     * reflect some of their changes but not others.
+     * 
+     * @return The amount of occupied slots.
+     */
+    public int size() {
+	int size = 0;
+	for (int word = 0; word < occupancy.length; word++)
+	    size += Long.bitCount((long) WORDS.getAcquire(occupancy, word));
+	return size;
+    }
+
+    /**
+     * Returns the amount of slots.
+     * 
+     * @return The capacity.
+     */
+    public int capacity() {
+	return elements.length;
+    }
+
+}
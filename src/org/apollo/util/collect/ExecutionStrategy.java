@@ -0,0 +1,33 @@
+package org.apollo.util.collect;
+
+/**
+ * The ways in which a bulk operation of {@link ArrayUtils} can be executed, as chosen by the
+ * {@link StrategySelector}. Operations that lack an implementation of the chosen strategy use
+ * the next simpler one they have, so {@link #PARALLEL} falls back to {@link #VECTORIZED}, which
+ * in turn falls back to {@link #SEQUENTIAL}.
+ * 
+ * @author Chris Fletcher
+ */
+public enum ExecutionStrategy {
+
+    /**
+     * A plain loop over the elements, on the calling thread. This has the least overhead, and
+     * is the fastest for small arrays.
+     */
+    SEQUENTIAL,
+
+    /**
+     * A loop on the calling thread that processes several elements per step, e.g. eight
+     * {@code byte} values in the lanes of a single {@code long}. The setup and the tail of such
+     * a loop cost more than a plain loop over a few elements.
+     */
+    VECTORIZED,
+
+    /**
+     * Fork/join execution, with the array split into ranges across the workers of a pool. This
+     * only pays off once the array is large enough to outweigh the cost of handing out the
+     * ranges.
+     */
+    PARALLEL;
+
+}
@@ -0,0 +1,115 @@
+package org.apollo.util.collect;
+
+/**
+ * An immutable lookup index over the elements of an {@code int} array, answering
+ * {@link #contains(int)} and {@link #indexOf(int)} in constant expected time rather than
+ * scanning the array, as {@link ArrayUtils#indexOf(int, int[])} does.
+ * <p>
+ * The index is a flat open-addressing table of two parallel primitive arrays, filled to at most
+ * half of its capacity, so no value is ever boxed. It is built once from a snapshot of the
+ * array, so later changes to the array are not reflected. Instances of this class are
+ * immutable, and thus safe to share between threads.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @see ArrayIndex
+ * @see LongArrayIndex
+ */
+public final class IntArrayIndex {
+
+    /**
+     * The indexed value in each slot of the table.
+     */
+    private final int[] keys;
+
+    /**
+     * The index in the array of the value in each slot of the table, plus one, or {@code 0}
+     * for empty slots.
+     */
+    private final int[] positions;
+
+    /**
+     * The amount of bits to shift a hash to the right to obtain a slot.
+     */
+    private final int shift;
+
+    /**
+     * The length of the indexed array.
+     */
+    private final int size;
+
+    /**
+     * Creates the index over the values of the specified array. Should the array hold equal
+     * values, the first of them is indexed.
+     * 
+     * @param array
+     *            The array to be indexed.
+     * @throws IllegalArgumentException
+     *             if the array is longer than {@code 2^29} elements.
+     */
+    public IntArrayIndex(int... array) {
+	int length = array.length, capacity = ArrayIndex.capacity(length);
+	keys = new int[capacity];
+	positions = new int[capacity];
+	shift = ArrayIndex.shift(capacity);
+	size = length;
+
+	for (int index = 0; index < length; index++) {
+	    int value = array[index];
+	    int slot = find(value);
+	    if (positions[slot] == 0) {
+		keys[slot] = value;
+		positions[slot] = index + 1;
+	    }
+	}
+    }
+
+    /**
+     * Returns the slot that holds the specified value, or the empty slot in which it would be
+     * stored.
+     * 
+     * @param value
+     *            The value.
+     * @return The slot.
+     */
+    private int find(int value) {
+	int mask = positions.length - 1;
+	int slot = (value * 0x9E3779B9) >>> shift;
+	while (positions[slot] != 0 && keys[slot] != value)
+	    slot = (slot + 1) & mask;
+	return slot;
+    }
+
+    /**
+     * Returns whether the indexed array contains the specified value.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @return {@code true} if the value was found, {@code false} otherwise.
+     */
+    public boolean contains(int value) {
+	return positions[find(value)] != 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in the indexed array.
+     * 
+     * @param value
+     *            The value to be searching for.
+     * @return The index of the first occurrence, or {@code -1} if the value was not found.
+     */
+    public int indexOf(int value) {
+	return positions[find(value)] - 1;
+    }
+
+    /**
+     * Returns the length of the indexed array.
+     * 
+     * @return The length of the array.
+     */
+    public int size() {
+	return size;
+    }
+
+}
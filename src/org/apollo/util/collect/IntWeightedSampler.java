@@ -0,0 +1,101 @@
+package org.apollo.util.collect;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import org.apollo.util.RandomSources;
+
+/**
+ * Selects elements from a fixed {@code int} array at random, where each element is selected with a
+ * probability proportional to its weight. Selection takes constant time, regardless of the
+ * amount of elements, as the weights are preprocessed into an alias table using Vose's alias
+ * method. This makes it a drop-in replacement for cumulative weight scans in e.g. drop tables.
+ * <p>
+ * Instances of this class are immutable, and thus safe to share between threads.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @see WeightedSampler
+ */
+public final class IntWeightedSampler {
+
+    /**
+     * The elements that are selected from.
+     */
+    private final int[] values;
+
+    /**
+     * The alias table over the weights of the elements.
+     */
+    private final AliasTable table;
+
+    /**
+     * Creates the weighted sampler.
+     * 
+     * @param values
+     *            The elements that are selected from. The array is copied.
+     * @param weights
+     *            The relative weight of each element.
+     * @throws IllegalArgumentException
+     *             if the arrays differ in length, if they are empty, if any of the weights is
+     *             negative or not finite, or if the weights do not sum to a positive, finite
+     *             value.
+     */
+    public IntWeightedSampler(int[] values, double[] weights) {
+	if (values.length != weights.length)
+	    throw new IllegalArgumentException("Values and weights must be of the same length.");
+
+	this.values = values.clone();
+	this.table = new AliasTable(weights);
+    }
+
+    /**
+     * Creates the weighted sampler.
+     * 
+     * @param values
+     *            The elements that are selected from. The array is copied.
+     * @param weights
+     *            The relative weight of each element.
+     * @throws IllegalArgumentException
+     *             if the arrays differ in length, if they are empty, if any of the weights is
+     *             negative, or if the weights do not sum to a positive value.
+     */
+    public IntWeightedSampler(int[] values, int[] weights) {
+	this(values, AliasTable.toDoubles(weights));
+    }
+
+    /**
+     * Returns a randomly selected element, using the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @return The randomly selected element.
+     */
+    public int sample() {
+	return sample(RandomSources.current());
+    }
+
+    /**
+     * Returns a randomly selected element, using the specified source of randomness.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @return The randomly selected element.
+     * @throws NullPointerException
+     *             if random is {@code null}.
+     */
+    public int sample(RandomGenerator random) {
+	Objects.requireNonNull(random);
+	return values[table.sample(random)];
+    }
+
+    /**
+     * Returns the amount of elements that are selected from.
+     * 
+     * @return The amount of elements.
+     */
+    public int size() {
+	return values.length;
+    }
+
+}
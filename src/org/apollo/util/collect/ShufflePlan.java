@@ -0,0 +1,213 @@
+package org.apollo.util.collect;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * The type-independent part of a parallel shuffle. Every index of the array is assigned to one
+ * of several buckets uniformly at random, in parallel per chunk of the array, after which each
+ * index is given a target position within its bucket. Scattering the elements to their targets
+ * and then shuffling each bucket independently, again in parallel, yields a uniformly random
+ * permutation of the whole array: the buckets receive a uniformly random subset of the
+ * elements, and each is then ordered uniformly at random.
+ * <p>
+ * Each chunk and each bucket uses its own {@link SplittableRandom}, seeded from the caller's
+ * source of randomness on the calling thread, and the amount of buckets depends on the length
+ * of the array alone. A seeded source thus yields the same permutation regardless of the pool,
+ * its parallelism, or whether the work is executed in parallel at all.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+final class ShufflePlan {
+
+    /**
+     * The smallest amount of elements per bucket. Smaller arrays use fewer buckets.
+     */
+    static final int MIN_BUCKET_SIZE = 1 << 12;
+
+    /**
+     * The largest amount of buckets, which is fixed rather than derived from the parallelism of
+     * the pool, so that the permutation does not depend on the machine it is computed on.
+     */
+    static final int MAX_BUCKETS = 64;
+
+    /**
+     * The target position of each index of the array.
+     */
+    private final int[] targets;
+
+    /**
+     * The first position of each bucket, followed by the length of the array.
+     */
+    private final int[] bounds;
+
+    /**
+     * The seed of the source of randomness of each bucket.
+     */
+    private final long[] seeds;
+
+    /**
+     * Creates the shuffle plan.
+     * 
+     * @param targets
+     *            The target position of each index of the array.
+     * @param bounds
+     *            The first position of each bucket, followed by the length of the array.
+     * @param seeds
+     *            The seed of the source of randomness of each bucket.
+     */
+    private ShufflePlan(int[] targets, int[] bounds, long[] seeds) {
+	this.targets = targets;
+	this.bounds = bounds;
+	this.seeds = seeds;
+    }
+
+    /**
+     * Returns the amount of buckets a parallel shuffle of the specified length uses.
+     * 
+     * @param length
+     *            The length of the array.
+     * @return The amount of buckets, which is {@code 1} if the array is shuffled sequentially.
+     */
+    static int buckets(int length) {
+	return Math.max(1, Math.min(MAX_BUCKETS, length / MIN_BUCKET_SIZE));
+    }
+
+    /**
+     * Returns the minimum amount of buckets processed sequentially by a single worker, for the
+     * specified minimum amount of elements.
+     * 
+     * @param minSplitSize
+     *            The minimum amount of elements processed sequentially by a single worker.
+     * @return The minimum amount of buckets.
+     */
+    static int bucketSplitSize(int minSplitSize) {
+	return Math.max(1, minSplitSize / MIN_BUCKET_SIZE);
+    }
+
+    /**
+     * Creates the plan for a parallel shuffle of an array of the specified length.
+     * 
+     * @param pool
+     *            The pool that executes the shuffle.
+     * @param minSplitSize
+     *            The minimum amount of elements processed sequentially by a single worker.
+     * @param random
+     *            The source of randomness.
+     * @param length
+     *            The length of the array.
+     * @param buckets
+     *            The amount of buckets, as returned by {@link #buckets(int)}.
+     * @return The plan.
+     */
+    static ShufflePlan create(ForkJoinPool pool, int minSplitSize, RandomGenerator random, int length, int buckets) {
+	long[] chunkSeeds = new long[buckets], bucketSeeds = new long[buckets];
+	for (int i = 0; i < buckets; i++) {
+	    chunkSeeds[i] = random.nextLong();
+	    bucketSeeds[i] = random.nextLong();
+	}
+
+	int[] targets = new int[length];
+	int[][] counts = new int[buckets][buckets];
+	ArrayTasks.forEach(pool, bucketSplitSize(minSplitSize), 0, buckets, (from, to) -> {
+	    for (int chunk = from; chunk < to; chunk++) {
+		SplittableRandom chunkRandom = new SplittableRandom(chunkSeeds[chunk]);
+		int[] chunkCounts = counts[chunk];
+		for (int i = chunkStart(chunk, buckets, length), end = chunkStart(chunk + 1, buckets, length); i < end; i++) {
+		    int bucket = chunkRandom.nextInt(buckets);
+		    targets[i] = bucket;
+		    chunkCounts[bucket]++;
+		}
+	    }
+	});
+
+	int[] bounds = new int[buckets + 1];
+	for (int bucket = 0, position = 0; bucket < buckets; bucket++) {
+	    bounds[bucket] = position;
+	    for (int chunk = 0; chunk < buckets; chunk++) {
+		int count = counts[chunk][bucket];
+		counts[chunk][bucket] = position;
+		position += count;
+	    }
+	}
+	bounds[buckets] = length;
+
+	ArrayTasks.forEach(pool, bucketSplitSize(minSplitSize), 0, buckets, (from, to) -> {
+	    for (int chunk = from; chunk < to; chunk++) {
+		int[] next = counts[chunk];
+		for (int i = chunkStart(chunk, buckets, length), end = chunkStart(chunk + 1, buckets, length); i < end; i++)
+		    targets[i] = next[targets[i]]++;
+	    }
+	});
+	return new ShufflePlan(targets, bounds, bucketSeeds);
+    }
+
+    /**
+     * Returns the first index of the specified chunk.
+     * 
+     * @param chunk
+     *            The chunk.
+     * @param chunks
+     *            The amount of chunks.
+     * @param length
+     *            The length of the array.
+     * @return The first index of the chunk.
+     */
+    private static int chunkStart(int chunk, int chunks, int length) {
+	return (int) ((long) chunk * length / chunks);
+    }
+
+    /**
+     * Returns the target position of each index of the array.
+     * 
+     * @return The target positions.
+     */
+    int[] targets() {
+	return targets;
+    }
+
+    /**
+     * Returns the amount of buckets.
+     * 
+     * @return The amount of buckets.
+     */
+    int buckets() {
+	return seeds.length;
+    }
+
+    /**
+     * Returns the first position of the specified bucket.
+     * 
+     * @param bucket
+     *            The bucket.
+     * @return The first position (inclusive).
+     */
+    int start(int bucket) {
+	return bounds[bucket];
+    }
+
+    /**
+     * Returns the position following the last position of the specified bucket.
+     * 
+     * @param bucket
+     *            The bucket.
+     * @return The last position (exclusive).
+     */
+    int end(int bucket) {
+	return bounds[bucket + 1];
+    }
+
+    /**
+     * Creates the source of randomness used to shuffle the specified bucket.
+     * 
+     * @param bucket
+     *            The bucket.
+     * @return The source of randomness.
+     */
+    RandomGenerator random(int bucket) {
+	return new SplittableRandom(seeds[bucket]);
+    }
+
+}
@@ -0,0 +1,285 @@
+package org.apollo.util.collect;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import org.apollo.util.RandomSources;
+import org.apollo.util.function.IntObjConsumer;
+
+/**
+ * A fixed-capacity table of slots, such as the indices of a player or NPC registry, paired with
+ * an occupancy bitmap that holds one bit per slot. The bitmap lets the table find the lowest
+ * free slot, count the occupied slots and iterate over them 64 slots at a time, rather than
+ * scanning the elements for {@code null} as {@link ArrayUtils#countNull(Object...)} does.
+ * <p>
+ * The table remembers the lowest word of the bitmap that may have a free slot, so allocating
+ * takes amortized constant time: every word below it is known to be full. Releasing a slot
+ * moves the hint back down if needed.
+ * </p>
+ * <p>
+ * This class is not thread safe. See {@link ConcurrentSlotTable} for a variant that can be
+ * shared between threads.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @param <T>
+ *            The type of the elements.
+ */
+public final class SlotTable<T> {
+
+    /**
+     * The element in each slot, or {@code null} if the slot is free.
+     */
+    private final Object[] elements;
+
+    /**
+     * The occupancy bitmap, with bit {@code i % 64} of word {@code i / 64} set if slot {@code i}
+     * is occupied.
+     */
+    private final long[] occupancy;
+
+    /**
+     * The amount of occupied slots.
+     */
+    private int size;
+
+    /**
+     * The lowest word of the bitmap that may have a free slot.
+     */
+    private int hint;
+
+    /**
+     * Creates the slot table, with all slots free.
+     * 
+     * @param capacity
+     *            The amount of slots.
+     * @throws IllegalArgumentException
+     *             if the capacity is negative.
+     */
+    public SlotTable(int capacity) {
+	if (capacity < 0)
+	    throw new IllegalArgumentException("Capacity may not be negative, was " + capacity + ".");
+
+	elements = new Object[capacity];
+	occupancy = new long[(capacity + Long.SIZE - 1) >>> 6];
+    }
+
+    /**
+     * Stores the specified element in the lowest free slot.
+     * 
+     * @param element
+     *            The element.
+     * @return The index of the slot, or {@code -1} if every slot is occupied.
+     * @throws NullPointerException
+     *             if the element is {@code null}.
+     */
+    public int allocate(T element) {
+	Objects.requireNonNull(element);
+
+	int capacity = elements.length;
+	for (int word = hint; word < occupancy.length; word++) {
+	    long free = ~occupancy[word];
+	    if (free == 0)
+		continue;
+
+	    int index = (word << 6) + Long.numberOfTrailingZeros(free);
+	    hint = word;
+	    if (index >= capacity)
+		break;
+
+	    occupancy[word] |= 1L << index;
+	    elements[index] = element;
+	    size++;
+	    return index;
+	}
+	return -1;
+    }
+
+    /**
+     * Frees the slot at the specified index.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return The element that occupied the slot, or {@code null} if it was already free.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T release(int index) {
+	Objects.checkIndex(index, elements.length);
+
+	int word = index >>> 6;
+	long bit = 1L << index;
+	if ((occupancy[word] & bit) == 0)
+	    return null;
+
+	T element = (T) elements[index];
+	occupancy[word] &= ~bit;
+	elements[index] = null;
+	size--;
+	hint = Math.min(hint, word);
+	return element;
+    }
+
+    /**
+     * Replaces the element in the occupied slot at the specified index.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @param element
+     *            The new element.
+     * @return The element that occupied the slot.
+     * @throws NullPointerException
+     *             if the element is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     * @throws IllegalStateException
+     *             if the slot is free.
+     */
+    @SuppressWarnings("unchecked")
+    public T replace(int index, T element) {
+	Objects.requireNonNull(element);
+	if (!isOccupied(index))
+	    throw new IllegalStateException("Slot " + index + " is free.");
+
+	T previous = (T) elements[index];
+	elements[index] = element;
+	return previous;
+    }
+
+    /**
+     * Returns the element in the slot at the specified index.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return The element, or {@code null} if the slot is free.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+	return (T) elements[index];
+    }
+
+    /**
+     * Returns whether the slot at the specified index is occupied.
+     * 
+     * @param index
+     *            The index of the slot.
+     * @return {@code true} if the slot is occupied, {@code false} if it is free.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of bounds.
+     */
+    public boolean isOccupied(int index) {
+	Objects.checkIndex(index, elements.length);
+	return (occupancy[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Invokes the specified action on the element in each occupied slot, in ascending order of
+     * index.
+     * 
+     * @param action
+     *            The action that is to be invoked.
+     * @throws NullPointerException
+     *             if action is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+	Objects.requireNonNull(action);
+	Object[] elements = this.elements;
+	long[] occupancy = this.occupancy;
+	for (int word = 0; word < occupancy.length; word++) {
+	    long bits = occupancy[word];
+	    int base = word << 6;
+	    if (bits == -1L) {
+		for (int index = base, end = base + Long.SIZE; index < end; index++)
+		    action.accept((T) elements[index]);
+		continue;
+	    }
+
+	    for (; bits != 0; bits &= bits - 1)
+		action.accept((T) elements[base + Long.numberOfTrailingZeros(bits)]);
+	}
+    }
+
+    /**
+     * Invokes the specified action on the index and element of each occupied slot, in
+     * ascending order of index.
+     * 
+     * @param action
+     *            The action that is to be invoked. This {@link IntObjConsumer} accepts two
+     *            arguments, which are the index of the slot and its element.
+     * @throws NullPointerException
+     *             if action is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachIndexed(IntObjConsumer<? super T> action) {
+	Objects.requireNonNull(action);
+	Object[] elements = this.elements;
+	long[] occupancy = this.occupancy;
+	for (int word = 0; word < occupancy.length; word++) {
+	    long bits = occupancy[word];
+	    int base = word << 6;
+	    if (bits == -1L) {
+		for (int index = base, end = base + Long.SIZE; index < end; index++)
+		    action.accept(index, (T) elements[index]);
+		continue;
+	    }
+
+	    for (; bits != 0; bits &= bits - 1) {
+		int index = base + Long.numberOfTrailingZeros(bits);
+		action.accept(index, (T) elements[index]);
+	    }
+	}
+    }
+
+    /**
+     * Returns the element in a randomly selected occupied slot, as defined by the
+     * {@link RandomSources#current() current source of randomness}.
+     * 
+     * @return The randomly selected element, or {@code null} if every slot is free.
+     */
+    public T random() {
+	return random(RandomSources.current());
+    }
+
+    /**
+     * Returns the element in a randomly selected occupied slot, as defined by the specified
+     * source of randomness. Every occupied slot is equally likely to be selected.
+     * 
+     * @param random
+     *            The source of randomness.
+     * @return The randomly selected element, or {@code null} if every slot is free.
+     * @throws NullPointerException
+     *             if random is {@code null}.
+     * @see ArrayUtils#randomNonNull(RandomGenerator, long[], Object[])
+     */
+    @SuppressWarnings("unchecked")
+    public T random(RandomGenerator random) {
+	Objects.requireNonNull(random);
+	int index = ArrayUtils.randomOccupied(random, occupancy, elements.length);
+	return (index < 0) ? null : (T) elements[index];
+    }
+
+    /**
+     * Returns the amount of occupied slots.
+     * 
+     * @return The amount of occupied slots.
+     */
+    public int size() {
+	return size;
+    }
+
+    /**
+     * Returns the amount of slots.
+     * 
+     * @return The capacity.
+     */
+    public int capacity() {
+	return elements.length;
+    }
+
+}
@@ -0,0 +1,485 @@
+package org.apollo.util.collect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.System.Logger.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Selects the {@link ExecutionStrategy} of the bulk operations of {@link ArrayUtils} from the
+ * length of the array, the parallelism of the pool and how busy that pool currently is. The
+ * selection applies to the parallel methods that do not take a pool, and to the plain methods
+ * of operations that invoke no code of the caller, such as counting {@code null} entries or
+ * filling a new array. Operations that do invoke code of the caller, such as
+ * {@link ArrayUtils#count(java.util.function.Predicate, Object...)}, are only executed in
+ * parallel through their parallel methods, as that code may not be thread safe. Each
+ * {@link Operation} has two thresholds: the length from which on it is
+ * {@link ExecutionStrategy#VECTORIZED vectorized}, and the length from which on it is executed
+ * in {@link ExecutionStrategy#PARALLEL parallel}. A pool with a parallelism of one, or one that
+ * already has more work queued than it can handle, is never used.
+ * <p>
+ * The initial thresholds are determined when this class is initialized. If the
+ * {@value #PROFILE_PROPERTY} system property is set, they are loaded from the profile at that
+ * path, as previously written by {@link #store(Path)}, e.g. from the crossovers measured by the
+ * benchmark suite. Otherwise the default thresholds of each operation are used. Either can be
+ * replaced at runtime by {@link #install(StrategySelector) installing} another selector, e.g.
+ * one derived from the current one through {@link #withThresholds(Operation, int, int)}.
+ * Regardless of the thresholds, a single strategy can be forced for all operations, either
+ * through the {@value #FORCE_PROPERTY} system property or through
+ * {@link #force(ExecutionStrategy)}, which is mainly useful to exercise every code path in
+ * tests.
+ * </p>
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ */
+public final class StrategySelector {
+
+    /**
+     * The bulk operations whose strategy is selected, each with its default thresholds.
+     */
+    public enum Operation {
+
+	/**
+	 * Invoking an action on each element.
+	 */
+	FOR_EACH(Integer.MAX_VALUE, 1 << 13),
+
+	/**
+	 * Converting each element to another type.
+	 */
+	CONVERT(Integer.MAX_VALUE, 1 << 13),
+
+	/**
+	 * Counting the elements that match a condition.
+	 */
+	COUNT(Integer.MAX_VALUE, 1 << 16),
+
+	/**
+	 * Moving the non-{@code null} elements to the front.
+	 */
+	COMPACT(Integer.MAX_VALUE, 1 << 16),
+
+	/**
+	 * Searching a {@code byte} array for a value. The searches of other primitive arrays
+	 * compare one element at a time, regardless of the selected strategy.
+	 */
+	SEARCH(16, Integer.MAX_VALUE),
+
+	/**
+	 * Shuffling the elements.
+	 */
+	SHUFFLE(Integer.MAX_VALUE, 1 << 16),
+
+	/**
+	 * Filling a new array with a default value.
+	 */
+	FILL(Integer.MAX_VALUE, 1 << 18);
+
+	/**
+	 * The default length from which on the operation is vectorized.
+	 */
+	private final int vectorized;
+
+	/**
+	 * The default length from which on the operation is executed in parallel.
+	 */
+	private final int parallel;
+
+	Operation(int vectorized, int parallel) {
+	    this.vectorized = vectorized;
+	    this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the prefix of the keys of this operation's thresholds in a profile.
+	 * 
+	 * @return The key prefix, e.g. {@code for-each}.
+	 */
+	String key() {
+	    return name().toLowerCase(Locale.ROOT).replace('_', '-');
+	}
+
+    }
+
+    /**
+     * The system property holding the path of the profile to load the thresholds from.
+     */
+    public static final String PROFILE_PROPERTY = "org.apollo.util.collect.strategyProfile";
+
+    /**
+     * The system property holding the name of the {@link ExecutionStrategy} to force for all
+     * operations.
+     */
+    public static final String FORCE_PROPERTY = "org.apollo.util.collect.forceStrategy";
+
+    /**
+     * The amount of tasks the calling worker may have queued beyond what its idle peers are
+     * expected to steal, before its pool is considered saturated.
+     */
+    private static final int MAX_SURPLUS_TASKS = 3;
+
+    /**
+     * The thresholds in use.
+     */
+    private static volatile StrategySelector current = initialize();
+
+    /**
+     * The strategy forced for all operations, or {@code null} if strategies are selected.
+     */
+    private static volatile ExecutionStrategy forced = forcedByProperty();
+
+    /**
+     * The length from which on each operation is vectorized, indexed by ordinal.
+     */
+    private final int[] vectorized;
+
+    /**
+     * The length from which on each operation is executed in parallel, indexed by ordinal.
+     */
+    private final int[] parallel;
+
+    /**
+     * Creates the strategy selector.
+     * 
+     * @param vectorized
+     *            The length from which on each operation is vectorized, indexed by ordinal.
+     * @param parallel
+     *            The length from which on each operation is executed in parallel, indexed by
+     *            ordinal.
+     * @throws IllegalArgumentException
+     *             if any of the thresholds is not positive.
+     */
+    private StrategySelector(int[] vectorized, int[] parallel) {
+	for (Operation operation : Operation.values()) {
+	    if (vectorized[operation.ordinal()] < 1 || parallel[operation.ordinal()] < 1)
+		throw new IllegalArgumentException("Thresholds of " + operation + " must be positive.");
+	}
+
+	this.vectorized = vectorized;
+	this.parallel = parallel;
+    }
+
+    /**
+     * Returns the strategy selector in use, as determined when this class was initialized, or as
+     * last {@link #install(StrategySelector) installed}.
+     * 
+     * @return The current strategy selector.
+     */
+    public static StrategySelector current() {
+	return current;
+    }
+
+    /**
+     * Installs the specified strategy selector, whose thresholds are used from then on by all
+     * operations that select their strategy. Operations already in progress keep the thresholds
+     * they started with.
+     * 
+     * @param selector
+     *            The strategy selector.
+     * @throws NullPointerException
+     *             if the selector is {@code null}.
+     */
+    public static void install(StrategySelector selector) {
+	current = Objects.requireNonNull(selector);
+    }
+
+    /**
+     * Returns the strategy selector with the default thresholds of each operation.
+     * 
+     * @return The default strategy selector.
+     */
+    public static StrategySelector defaults() {
+	Operation[] operations = Operation.values();
+	int[] vectorized = new int[operations.length], parallel = new int[operations.length];
+	for (Operation operation : operations) {
+	    vectorized[operation.ordinal()] = operation.vectorized;
+	    parallel[operation.ordinal()] = operation.parallel;
+	}
+	return new StrategySelector(vectorized, parallel);
+    }
+
+    /**
+     * Forces the specified strategy for all operations, overriding the thresholds of every
+     * selector, or resumes selecting strategies if the strategy is {@code null}.
+     * 
+     * @param strategy
+     *            The strategy to force, or {@code null}.
+     */
+    public static void force(ExecutionStrategy strategy) {
+	forced = strategy;
+    }
+
+    /**
+     * Returns the strategy forced for all operations.
+     * 
+     * @return The forced strategy, or {@code null} if strategies are selected.
+     */
+    public static ExecutionStrategy forced() {
+	return forced;
+    }
+
+    /**
+     * Loads the thresholds from the profile at the specified path. Operations that the profile
+     * does not mention keep their default thresholds.
+     * 
+     * @param path
+     *            The path of the profile.
+     * @return The loaded strategy selector.
+     * @throws IOException
+     *             if the profile could not be read.
+     * @throws IllegalArgumentException
+     *             if the profile contains a malformed or non-positive threshold.
+     */
+    public static StrategySelector load(Path path) throws IOException {
+	Properties properties = new Properties();
+	try (InputStream in = Files.newInputStream(path)) {
+	    properties.load(in);
+	}
+
+	StrategySelector defaults = defaults();
+	int[] vectorized = defaults.vectorized, parallel = defaults.parallel;
+	for (Operation operation : Operation.values()) {
+	    vectorized[operation.ordinal()] = parse(properties, operation.key() + ".vectorized", vectorized[operation.ordinal()]);
+	    parallel[operation.ordinal()] = parse(properties, operation.key() + ".parallel", parallel[operation.ordinal()]);
+	}
+	return new StrategySelector(vectorized, parallel);
+    }
+
+    /**
+     * Parses the threshold with the specified key from the specified properties.
+     * 
+     * @param properties
+     *            The properties of the profile.
+     * @param key
+     *            The key of the threshold.
+     * @param defaultValue
+     *            The threshold if the profile does not contain the key.
+     * @return The threshold.
+     * @throws IllegalArgumentException
+     *             if the threshold is malformed.
+     */
+    private static int parse(Properties properties, String key, int defaultValue) {
+	String value = properties.getProperty(key);
+	return (value == null) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Determines the thresholds to use, as described in the class documentation.
+     * 
+     * @return The strategy selector.
+     */
+    private static StrategySelector initialize() {
+	String profile = System.getProperty(PROFILE_PROPERTY);
+	if (profile != null) {
+	    try {
+		return load(Paths.get(profile));
+	    } catch (IOException | IllegalArgumentException e) {
+		System.getLogger(StrategySelector.class.getName()).log(Level.WARNING,
+			"Failed to load strategy profile " + profile + ", falling back to the defaults.", e);
+	    }
+	}
+
+	return defaults();
+    }
+
+    /**
+     * Determines the strategy forced through the {@value #FORCE_PROPERTY} system property.
+     * 
+     * @return The forced strategy, or {@code null} if the property is not set or malformed.
+     */
+    private static ExecutionStrategy forcedByProperty() {
+	String strategy = System.getProperty(FORCE_PROPERTY);
+	if (strategy == null)
+	    return null;
+
+	try {
+	    return ExecutionStrategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT));
+	} catch (IllegalArgumentException e) {
+	    System.getLogger(StrategySelector.class.getName()).log(Level.WARNING,
+		    "Unknown execution strategy " + strategy + ", selecting strategies instead.", e);
+	    return null;
+	}
+    }
+
+    /**
+     * Returns whether the specified pool is too busy to take on more work. From within one of
+     * its workers, this is the case when the worker has more tasks queued than its idle peers
+     * are expected to steal; from any other thread, when submissions are waiting for a worker.
+     * 
+     * @param pool
+     *            The pool.
+     * @return {@code true} if the pool is saturated, {@code false} otherwise.
+     */
+    private static boolean saturated(ForkJoinPool pool) {
+	if (ForkJoinTask.getPool() == pool)
+	    return ForkJoinTask.getSurplusQueuedTaskCount() > MAX_SURPLUS_TASKS;
+
+	return pool.hasQueuedSubmissions();
+    }
+
+    /**
+     * Returns a copy of this strategy selector, with the specified thresholds for the specified
+     * operation.
+     * 
+     * @param operation
+     *            The operation.
+     * @param vectorized
+     *            The length from which on the operation is vectorized.
+     * @param parallel
+     *            The length from which on the operation is executed in parallel.
+     * @return The new strategy selector.
+     * @throws IllegalArgumentException
+     *             if either of the thresholds is not positive.
+     */
+    public StrategySelector withThresholds(Operation operation, int vectorized, int parallel) {
+	int[] newVectorized = this.vectorized.clone(), newParallel = this.parallel.clone();
+	newVectorized[operation.ordinal()] = vectorized;
+	newParallel[operation.ordinal()] = parallel;
+	return new StrategySelector(newVectorized, newParallel);
+    }
+
+    /**
+     * Selects the strategy of the specified operation over an array of the specified length,
+     * executed in the {@link ForkJoinPool#commonPool() common pool} if in parallel.
+     * 
+     * @param operation
+     *            The operation.
+     * @param length
+     *            The length of the array.
+     * @return The selected strategy.
+     */
+    public ExecutionStrategy select(Operation operation, int length) {
+	return select(operation, length, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Selects the strategy of the specified operation over an array of the specified length,
+     * executed in the specified pool if in parallel.
+     * 
+     * @param operation
+     *            The operation.
+     * @param length
+     *            The length of the array.
+     * @param pool
+     *            The pool that would execute the operation in parallel.
+     * @return The selected strategy.
+     */
+    public ExecutionStrategy select(Operation operation, int length, ForkJoinPool pool) {
+	ExecutionStrategy strategy = forced;
+	if (strategy != null)
+	    return strategy;
+
+	int ordinal = operation.ordinal();
+	if (length >= parallel[ordinal] && pool.getParallelism() > 1 && !saturated(pool))
+	    return ExecutionStrategy.PARALLEL;
+	return (length >= vectorized[ordinal]) ? ExecutionStrategy.VECTORIZED : ExecutionStrategy.SEQUENTIAL;
+    }
+
+    /**
+     * Returns the minimum split size with which {@link ArrayTasks} should execute the specified
+     * operation over an array of the specified length. If the operation is not executed in
+     * parallel, the minimum split size exceeds the length, so that the array is processed on the
+     * calling thread. Otherwise it is half the parallel threshold, so that an array at the
+     * threshold is split in two.
+     * 
+     * @param operation
+     *            The operation.
+     * @param length
+     *            The length of the array.
+     * @param pool
+     *            The pool that would execute the operation in parallel.
+     * @return The minimum split size.
+     */
+    int minSplitSize(Operation operation, int length, ForkJoinPool pool) {
+	if (select(operation, length, pool) != ExecutionStrategy.PARALLEL)
+	    return Integer.MAX_VALUE;
+
+	return Math.max(1, Math.min(parallel[operation.ordinal()], length) / 2);
+    }
+
+    /**
+     * Returns the length from which on the specified operation is vectorized.
+     * 
+     * @param operation
+     *            The operation.
+     * @return The vectorization threshold.
+     */
+    public int getVectorizedThreshold(Operation operation) {
+	return vectorized[operation.ordinal()];
+    }
+
+    /**
+     * Returns the length from which on the specified operation is executed in parallel.
+     * 
+     * @param operation
+     *            The operation.
+     * @return The parallelization threshold.
+     */
+    public int getParallelThreshold(Operation operation) {
+	return parallel[operation.ordinal()];
+    }
+
+    /**
+     * Writes these thresholds as a profile to the specified path, so that they can later be
+     * {@link #load(Path) loaded} through the {@value #PROFILE_PROPERTY} system property.
+     * 
+     * @param path
+     *            The path of the profile.
+     * @throws IOException
+     *             if the profile could not be written.
+     */
+    public void store(Path path) throws IOException {
+	Properties properties = new Properties();
+	for (Operation operation : Operation.values()) {
+	    properties.setProperty(operation.key() + ".vectorized", String.valueOf(vectorized[operation.ordinal()]));
+	    properties.setProperty(operation.key() + ".parallel", String.valueOf(parallel[operation.ordinal()]));
+	}
+
+	String host = System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + ", "
+		+ System.getProperty("os.arch") + ", " + Runtime.getRuntime().availableProcessors() + " processors";
+	try (OutputStream out = Files.newOutputStream(path)) {
+	    properties.store(out, "Execution strategy thresholds for " + host);
+	}
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj)
+	    return true;
+	if (!(obj instanceof StrategySelector))
+	    return false;
+
+	StrategySelector other = (StrategySelector) obj;
+	return Arrays.equals(vectorized, other.vectorized) && Arrays.equals(parallel, other.parallel);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * Arrays.hashCode(vectorized) + Arrays.hashCode(parallel);
+    }
+
+    @Override
+    public String toString() {
+	StringBuilder builder = new StringBuilder("StrategySelector[");
+	for (Operation operation : Operation.values()) {
+	    if (operation.ordinal() > 0)
+		builder.append(", ");
+	    builder.append(operation.key()).append("=").append(vectorized[operation.ordinal()]).append("/")
+		    .append(parallel[operation.ordinal()]);
+	}
+	return builder.append("]").toString();
+    }
+
+}
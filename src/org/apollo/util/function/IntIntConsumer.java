@@ -0,0 +1,53 @@
+package org.apollo.util.function;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts two {@code int}-valued arguments, and returns no result.
+ * This is the {@code (int, int)} specialization of {@link BiConsumer}, typically used to accept an
+ * array index along with the element at that index. Unlike most other functional interfaces, {@code
+ * IntIntConsumer} is expected to operate via side-effects.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is
+ * {@link #accept(int, int)}.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @see BiConsumer
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * Performs this operation on the given arguments.
+     * 
+     * @param index
+     *            The first input argument.
+     * @param value
+     *            The second input argument.
+     */
+    void accept(int index, int value);
+
+    /**
+     * Returns a composed {@code IntIntConsumer} that performs, in sequence, this operation followed
+     * by the {@code after} operation. If performing either operation throws an exception, it is
+     * relayed to the caller of the composed operation. If performing this operation throws an
+     * exception, the {@code after} operation will not be performed.
+     * 
+     * @param after
+     *            The operation to perform after this operation.
+     * @return A composed {@code IntIntConsumer} that performs in sequence this operation followed
+     *         by the {@code after} operation.
+     * @throws NullPointerException
+     *             if {@code after} is {@code null}.
+     */
+    default IntIntConsumer andThen(IntIntConsumer after) {
+	Objects.requireNonNull(after);
+	return (index, value) -> {
+	    accept(index, value);
+	    after.accept(index, value);
+	};
+    }
+}
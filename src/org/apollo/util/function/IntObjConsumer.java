@@ -0,0 +1,56 @@
+package org.apollo.util.function;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts an {@code int}-valued and an object-valued argument, and
+ * returns no result. This is the {@code (int, reference)} specialization of {@link BiConsumer},
+ * typically used to accept an array index along with the element at that index. Unlike most other
+ * functional interfaces, {@code IntObjConsumer} is expected to operate via side-effects.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is
+ * {@link #accept(int, Object)}.
+ * </p>
+ * 
+ * @author Chris Fletcher
+ * 
+ * @param <T>
+ *            The type of the second argument to the operation.
+ * 
+ * @see BiConsumer
+ */
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+
+    /**
+     * Performs this operation on the given arguments.
+     * 
+     * @param index
+     *            The first input argument.
+     * @param t
+     *            The second input argument.
+     */
+    void accept(int index, T t);
+
+    /**
+     * Returns a composed {@code IntObjConsumer} that performs, in sequence, this operation followed
+     * by the {@code after} operation. If performing either operation throws an exception, it is
+     * relayed to the caller of the composed operation. If performing this operation throws an
+     * exception, the {@code after} operation will not be performed.
+     * 
+     * @param after
+     *            The operation to perform after this operation.
+     * @return A composed {@code IntObjConsumer} that performs in sequence this operation followed
+     *         by the {@code after} operation.
+     * @throws NullPointerException
+     *             if {@code after} is {@code null}.
+     */
+    default IntObjConsumer<T> andThen(IntObjConsumer<? super T> after) {
+	Objects.requireNonNull(after);
+	return (index, t) -> {
+	    accept(index, t);
+	    after.accept(index, t);
+	};
+    }
+}
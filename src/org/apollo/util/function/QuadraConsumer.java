@@ -9,7 +9,7 @@ import java.util.function.Consumer;
  * {@code QuadraConsumer} is expected to operate via side-effects.
  * <p>
  * This is a {@link FunctionalInterface} whose functional method is
- * {@link #accept(Object, Object, Object)}.
+ * {@link #accept(Object, Object, Object, Object)}.
  * </p>
  * 
  * @author Chris Fletcher